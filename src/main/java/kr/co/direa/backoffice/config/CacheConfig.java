@@ -0,0 +1,104 @@
+package kr.co.direa.backoffice.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import kr.co.direa.backoffice.service.CommonLookupService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Caffeine 기반 캐시 설정.
+ * - Keycloak 사용자 캐시는 크기 상한, 결과별 TTL(빈 결과는 짧게), refreshAfter 경과 시 백그라운드 갱신
+ * - recordStats로 actuator의 cache.* 메트릭에 적중/미스/제거 통계를 노출
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(KeycloakCacheProperties properties,
+                                     ObjectProvider<CommonLookupService> commonLookupService,
+                                     @Qualifier("keycloakLookupExecutor") Executor keycloakLookupExecutor) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats());
+
+        cacheManager.registerCustomCache(CommonLookupService.CACHE_KEYCLOAK_USER_INFO_BY_ID,
+                keycloakUserCache(properties, keycloakLookupExecutor,
+                        key -> key instanceof UUID userId
+                                ? commonLookupService.getObject().reloadKeycloakUserInfoById(userId)
+                                : Optional.empty()));
+        cacheManager.registerCustomCache(CommonLookupService.CACHE_KEYCLOAK_USER_INFO_BY_USERNAME,
+                keycloakUserCache(properties, keycloakLookupExecutor,
+                        key -> commonLookupService.getObject().reloadKeycloakUserInfoByUsername(key.toString())));
+        return cacheManager;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> keycloakUserCache(
+            KeycloakCacheProperties properties,
+            Executor executor,
+            Function<Object, Optional<?>> reloader) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new LookupResultExpiry(properties.getTtl().toNanos(), properties.getNegativeTtl().toNanos()))
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .executor(executor)
+                .recordStats()
+                .build(new RefreshOnlyLoader(reloader));
+    }
+
+    /**
+     * 값은 항상 Optional이다. Optional.empty(찾지 못함)은 negativeTtl, 나머지는 ttl 동안 보관한다.
+     */
+    private record LookupResultExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return isNegative(value) ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private boolean isNegative(Object value) {
+            return value instanceof Optional<?> optional && optional.isEmpty();
+        }
+    }
+
+    /**
+     * refreshAfterWrite 전용 로더.
+     * 최초 적재는 CommonLookupService의 단건/배치 조회가 직접 하므로 load는 아무것도 적재하지 않는다.
+     * 갱신 중 Keycloak 장애는 예외로 올라오며, Caffeine은 이때 기존 값을 그대로 둔다.
+     * 빈 Optional은 Keycloak이 실제로 "없음"을 돌려준 경우뿐이다.
+     */
+    private record RefreshOnlyLoader(Function<Object, Optional<?>> reloader) implements CacheLoader<Object, Object> {
+
+        @Override
+        public Object load(Object key) {
+            return null;
+        }
+
+        @Override
+        public Object reload(Object key, Object oldValue) {
+            return reloader.apply(key);
+        }
+    }
+}
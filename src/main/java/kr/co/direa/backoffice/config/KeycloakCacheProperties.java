@@ -0,0 +1,23 @@
+package kr.co.direa.backoffice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Keycloak 사용자 조회 캐시(id/username) 설정.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.keycloak.cache")
+public class KeycloakCacheProperties {
+    private long maximumSize = 10_000;
+    /** 찾은 사용자 보관 시간 */
+    private Duration ttl = Duration.ofMinutes(30);
+    /** 찾지 못한 사용자(빈 결과) 보관 시간 */
+    private Duration negativeTtl = Duration.ofMinutes(1);
+    /** 이 시간이 지난 항목은 조회 시 기존 값을 돌려주고 백그라운드에서 다시 읽는다 */
+    private Duration refreshAfter = Duration.ofMinutes(10);
+}
@@ -0,0 +1,91 @@
+package kr.co.direa.backoffice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keycloak Admin API 전용 RestTemplate.
+ * - httpclient5 커넥션 풀을 공유해 keep-alive 커넥션과 TLS 세션을 재사용
+ * - 풀 상태는 keycloak.http.pool.* 게이지로 노출
+ */
+@Configuration
+public class KeycloakHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager keycloakConnectionManager(KeycloakHttpProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(properties.getConnectTimeout()))
+                .setSocketTimeout(toTimeout(properties.getResponseTimeout()))
+                .build();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean(name = "keycloakRestTemplate")
+    public RestTemplate keycloakRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                             @Qualifier("keycloakConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+                                             KeycloakHttpProperties properties) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(properties.getResponseTimeout()))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(properties.getKeepAlive().toMillis()))
+                .build();
+        // 커넥션 매니저는 별도 빈으로 닫으므로 HttpClient가 소유하지 않게 한다.
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleEviction().toMillis()))
+                .build();
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    @Bean
+    public MeterBinder keycloakConnectionPoolMetrics(@Qualifier("keycloakConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return registry -> {
+            registerPoolGauge(registry, connectionManager, "keycloak.http.pool.leased", "Connections currently in use", PoolStats::getLeased);
+            registerPoolGauge(registry, connectionManager, "keycloak.http.pool.available", "Idle connections kept alive", PoolStats::getAvailable);
+            registerPoolGauge(registry, connectionManager, "keycloak.http.pool.pending", "Requests waiting for a connection", PoolStats::getPending);
+            registerPoolGauge(registry, connectionManager, "keycloak.http.pool.max", "Maximum pool size", PoolStats::getMax);
+        };
+    }
+
+    private void registerPoolGauge(MeterRegistry registry,
+                                   PoolingHttpClientConnectionManager connectionManager,
+                                   String name,
+                                   String description,
+                                   ToIntFunction<PoolStats> stat) {
+        Gauge.builder(name, connectionManager, manager -> stat.applyAsInt(manager.getTotalStats()))
+                .description(description)
+                .register(registry);
+    }
+
+    private Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
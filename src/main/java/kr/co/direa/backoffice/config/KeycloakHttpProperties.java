@@ -0,0 +1,26 @@
+package kr.co.direa.backoffice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Keycloak Admin API 호출용 HTTP 커넥션 풀 설정.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.keycloak.http")
+public class KeycloakHttpProperties {
+    /** 풀 전체 최대 커넥션 수. Keycloak 한 호스트만 호출하므로 보통 maxPerRoute와 같게 둔다. */
+    private int maxTotal = 16;
+    private int maxPerRoute = 16;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    /** 풀에서 커넥션을 빌려 오기까지 기다리는 최대 시간 */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    /** 서버가 Keep-Alive 헤더를 주지 않을 때 커넥션을 재사용하는 시간 */
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration idleEviction = Duration.ofMinutes(1);
+}
@@ -43,6 +43,7 @@ public class SecurityConfig {
             "/api/categories",
             "/api/departments",
             "/api/projects",
+            "/api/device/*/history",
     };
 
     @Bean
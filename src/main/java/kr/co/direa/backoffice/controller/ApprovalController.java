@@ -13,8 +13,10 @@ import kr.co.direa.backoffice.vo.ApprovalActionRequest;
 import kr.co.direa.backoffice.vo.ApprovalCommentRequest;
 import kr.co.direa.backoffice.vo.ApprovalCommentUpdateRequest;
 import kr.co.direa.backoffice.vo.ApproverUpdateRequest;
+import kr.co.direa.backoffice.vo.ApprovalInboxRequest;
 import kr.co.direa.backoffice.vo.ApprovalSearchRequest;
 import kr.co.direa.backoffice.vo.ApprovalUpdateRequest;
+import kr.co.direa.backoffice.vo.MyApprovalSearchRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -62,6 +64,22 @@ public class ApprovalController {
         return ResponseEntity.ok(approvalDeviceService.findApprovalsForUser(username));
     }
 
+    @GetMapping("/my-approval-list")
+    public ResponseEntity<PageResponse<ApprovalDeviceDto>> getMyApprovalPage(@RequestParam(required = false) String username,
+                                                                             MyApprovalSearchRequest searchRequest) {
+        return ResponseEntity.ok(approvalDeviceService.findApprovalsForUser(username, searchRequest));
+    }
+
+    @GetMapping("/approvals/inbox")
+    public ResponseEntity<PageResponse<ApprovalDeviceDto>> getApprovalInbox(ApprovalInboxRequest inboxRequest) {
+        return ResponseEntity.ok(approvalDeviceService.findApprovalInbox(inboxRequest));
+    }
+
+    @GetMapping("/approvals/inbox/count")
+    public ResponseEntity<Long> getApprovalInboxCount(@RequestParam(required = false) String username) {
+        return ResponseEntity.ok(approvalDeviceService.countApprovalInbox(username));
+    }
+
     @GetMapping("/approvals/{approvalId}")
     // TODO 인증 연동 시: 승인자 또는 신청자 본인만 상세 조회 가능하도록 제한 예정
     public ResponseEntity<ApprovalDeviceDto> getApproval(@PathVariable Long approvalId) {
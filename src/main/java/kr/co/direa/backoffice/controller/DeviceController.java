@@ -74,6 +74,13 @@ public class DeviceController {
         return ResponseEntity.ok(deviceService.findById(id));
     }
 
+    @GetMapping("/device/{id}/history")
+    public ResponseEntity<PageResponse<Map<String, Object>>> getDeviceHistory(@PathVariable String id,
+                                                                             @RequestParam(name = "cursor", required = false) String cursor,
+                                                                             @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(deviceService.findDeviceHistory(id, cursor, size));
+    }
+
     @PutMapping("/device/{id}")
     @PreAuthorize("@adminAuthorization.hasAdminAccess()")
     public ResponseEntity<DeviceDto> updateDevice(@PathVariable String id, @RequestBody DeviceDto dto) {
@@ -0,0 +1,136 @@
+package kr.co.direa.backoffice.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import kr.co.direa.backoffice.domain.enums.ApprovalCategory;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.DeviceApprovalAction;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결재 목록 조회 전용 테이블(결재당 한 행).
+ * 결재가 바뀔 때 같은 트랜잭션에서 다시 쓰며, 목록 화면은 상세/장비/단계를 조인하지 않고 이 테이블만 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "approval_list_view",
+        indexes = {
+                @Index(name = "idx_alv_category_priority_submitted",
+                        columnList = "category, status_priority, submitted_at"),
+                @Index(name = "idx_alv_category_submitted", columnList = "category, submitted_at"),
+                @Index(name = "idx_alv_requester_submitted",
+                        columnList = "category, requester_external_id, submitted_at"),
+                @Index(name = "idx_alv_requester_name_submitted",
+                        columnList = "category, requester_name, submitted_at")
+        })
+public class ApprovalListView {
+
+    @Id
+    @Column(name = "approval_id")
+    private Long approvalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 30)
+    private ApprovalCategory category;
+
+    @Column(name = "title", length = 200)
+    private String title;
+
+    @Column(name = "requester_name", length = 100)
+    private String requesterName;
+
+    @Column(name = "requester_external_id", length = 36)
+    private UUID requesterExternalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private ApprovalStatus status;
+
+    /**
+     * 목록 정렬용 상태 순서: 진행 중 0, 승인 1, 그 외 2.
+     */
+    @Column(name = "status_priority", nullable = false)
+    private int statusPriority;
+
+    @Column(name = "approval_info", length = 30)
+    private String approvalInfo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20)
+    private DeviceApprovalAction action;
+
+    @Column(name = "type_name", length = 30)
+    private String typeName;
+
+    @Column(name = "device_id")
+    private String deviceId;
+
+    @Column(name = "category_name", length = 100)
+    private String categoryName;
+
+    /**
+     * 진행 중인 단계의 결재자(결재자 칩 필터). 종결된 결재는 null.
+     */
+    @Column(name = "current_approver_name", length = 100)
+    private String currentApproverName;
+
+    /**
+     * 전체 단계 결재자 이름을 순서대로 이은 값(결재자 키워드 검색).
+     */
+    @Column(name = "approver_names", length = 500)
+    private String approverNames;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    public static ApprovalListView of(Long approvalId) {
+        ApprovalListView view = new ApprovalListView();
+        view.approvalId = approvalId;
+        return view;
+    }
+
+    public void update(ApprovalCategory category,
+                       String title,
+                       String requesterName,
+                       UUID requesterExternalId,
+                       ApprovalStatus status,
+                       int statusPriority,
+                       String approvalInfo,
+                       DeviceApprovalAction action,
+                       String deviceId,
+                       String categoryName,
+                       String currentApproverName,
+                       String approverNames,
+                       LocalDateTime submittedAt,
+                       LocalDateTime dueDate) {
+        this.category = category;
+        this.title = title;
+        this.requesterName = requesterName;
+        this.requesterExternalId = requesterExternalId;
+        this.status = status;
+        this.statusPriority = statusPriority;
+        this.approvalInfo = approvalInfo;
+        this.action = action;
+        this.typeName = action != null ? action.getDisplayName() : null;
+        this.deviceId = deviceId;
+        this.categoryName = categoryName;
+        this.currentApproverName = currentApproverName;
+        this.approverNames = approverNames;
+        this.submittedAt = submittedAt;
+        this.dueDate = dueDate;
+    }
+}
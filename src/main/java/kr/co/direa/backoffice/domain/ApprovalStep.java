@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,11 @@ import kr.co.direa.backoffice.domain.enums.StepStatus;
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "approval_steps")
+@Table(name = "approval_steps",
+        indexes = {
+                @Index(name = "idx_approval_steps_approver_status", columnList = "approver_external_id, status"),
+                @Index(name = "idx_approval_steps_approver_name_status", columnList = "approver_name, status")
+        })
 public class ApprovalStep extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,27 @@
+package kr.co.direa.backoffice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리별 대여 가능 장비 수 카운터(갱신은 CategoryAvailabilityCountRepository#upsertDelta로만 한다).
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "category_availability_count")
+public class CategoryAvailabilityCount {
+
+    @Id
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "available_count", nullable = false)
+    private long availableCount;
+}
@@ -0,0 +1,55 @@
+package kr.co.direa.backoffice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장비별 대여 가능 여부(마지막으로 카운터에 반영된 상태).
+ * 변경 시 이전 상태와 비교해 카테고리 카운터 증감량을 계산한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "device_availability_state")
+public class DeviceAvailabilityState {
+
+    @Id
+    @Column(name = "device_id")
+    private String deviceId;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "available", nullable = false)
+    private boolean available;
+
+    public static DeviceAvailabilityState of(String deviceId) {
+        DeviceAvailabilityState state = new DeviceAvailabilityState();
+        state.deviceId = deviceId;
+        return state;
+    }
+
+    /**
+     * 카운터에 집계되는 카테고리(대여 가능하고 카테고리가 있는 경우에만).
+     */
+    public String countedCategory() {
+        return available ? categoryName : null;
+    }
+
+    public boolean update(String categoryName, boolean available) {
+        if (this.available == available && Objects.equals(this.categoryName, categoryName)) {
+            return false;
+        }
+        this.categoryName = categoryName;
+        this.available = available;
+        return true;
+    }
+}
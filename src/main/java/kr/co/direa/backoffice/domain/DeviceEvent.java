@@ -0,0 +1,81 @@
+package kr.co.direa.backoffice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import kr.co.direa.backoffice.domain.enums.DeviceApprovalAction;
+
+/**
+ * 장비 타임라인(추가 전용).
+ * 승인 완료된 결재마다 장비별로 한 행을 남기며, 수정/삭제하지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "device_events",
+        indexes = @Index(name = "idx_device_events_device_ts", columnList = "device_id, occurred_at, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_device_events_device_request",
+                columnNames = {"device_id", "request_id"}))
+public class DeviceEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "device_id", nullable = false)
+    private String deviceId;
+
+    @Column(name = "request_id", nullable = false)
+    private Long requestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20)
+    private DeviceApprovalAction action;
+
+    @Column(name = "actor_name", length = 100)
+    private String actorName;
+
+    @Column(name = "operator_username", length = 100)
+    private String operatorUsername;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "project_name", length = 200)
+    private String projectName;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public static DeviceEvent of(String deviceId,
+                                 Long requestId,
+                                 DeviceApprovalAction action,
+                                 String actorName,
+                                 String operatorUsername,
+                                 String reason,
+                                 String projectName,
+                                 LocalDateTime occurredAt) {
+        DeviceEvent event = new DeviceEvent();
+        event.deviceId = deviceId;
+        event.requestId = requestId;
+        event.action = action;
+        event.actorName = actorName;
+        event.operatorUsername = operatorUsername;
+        event.reason = reason;
+        event.projectName = projectName;
+        event.occurredAt = occurredAt;
+        return event;
+    }
+}
@@ -0,0 +1,128 @@
+package kr.co.direa.backoffice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.DeviceApprovalAction;
+
+/**
+ * 장비별 최신 결재 스냅샷(비정규화).
+ * 결재 생성/상태 변경과 같은 트랜잭션에서 갱신되며, 장비 ID로 바로 조회한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "device_latest_approval")
+public class DeviceLatestApproval {
+
+    @Id
+    @Column(name = "device_id")
+    private String deviceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20)
+    private DeviceApprovalAction action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30)
+    private ApprovalStatus status;
+
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(name = "request_created_date")
+    private LocalDateTime requestCreatedDate;
+
+    @Column(name = "requester_name", length = 100)
+    private String requesterName;
+
+    @Column(name = "requested_real_user", length = 100)
+    private String requestedRealUser;
+
+    public static DeviceLatestApproval of(String deviceId) {
+        DeviceLatestApproval latest = new DeviceLatestApproval();
+        latest.deviceId = deviceId;
+        return latest;
+    }
+
+    /**
+     * 주어진 결재가 현재 스냅샷과 같은 결재이거나 더 최신(생성일시, 결재 ID 순)인지 확인한다.
+     */
+    public boolean isReplaceableBy(Long candidateRequestId, LocalDateTime candidateCreatedDate) {
+        if (requestId == null || requestId.equals(candidateRequestId)) {
+            return true;
+        }
+        if (candidateRequestId == null) {
+            return false;
+        }
+        if (requestCreatedDate != null && candidateCreatedDate != null
+                && !requestCreatedDate.equals(candidateCreatedDate)) {
+            return candidateCreatedDate.isAfter(requestCreatedDate);
+        }
+        if (requestCreatedDate == null && candidateCreatedDate != null) {
+            return true;
+        }
+        if (requestCreatedDate != null && candidateCreatedDate == null) {
+            return false;
+        }
+        return candidateRequestId > requestId;
+    }
+
+    public void apply(DeviceApprovalAction action,
+                      ApprovalStatus status,
+                      Long requestId,
+                      LocalDateTime dueDate,
+                      LocalDateTime requestCreatedDate,
+                      String requesterName,
+                      String requestedRealUser) {
+        this.action = action;
+        this.status = status;
+        this.requestId = requestId;
+        this.dueDate = dueDate;
+        this.requestCreatedDate = requestCreatedDate;
+        this.requesterName = requesterName;
+        this.requestedRealUser = requestedRealUser;
+    }
+
+    /**
+     * 대여 가능 목록 노출 규칙.
+     * - 최신 결재가 대여 대기/진행이면 제외
+     * - 그 외에는 사용 가능 장비이거나, 최신 결재가 반납 대기/완료 또는 대여 반려인 경우 노출
+     */
+    public static boolean allowsRental(Boolean isUsable, DeviceApprovalAction action, ApprovalStatus status) {
+        boolean returnWaiting = action == DeviceApprovalAction.RETURN &&
+                (status == ApprovalStatus.PENDING
+                        || status == ApprovalStatus.IN_PROGRESS
+                        || status == ApprovalStatus.APPROVED
+                        || status == null);
+
+        boolean rentalPending = action == DeviceApprovalAction.RENTAL &&
+                (status == ApprovalStatus.PENDING || status == ApprovalStatus.IN_PROGRESS);
+        if (rentalPending) {
+            return false;
+        }
+
+        boolean rentalRejected = action == DeviceApprovalAction.RENTAL && status == ApprovalStatus.REJECTED;
+
+        return returnWaiting || rentalRejected || Boolean.TRUE.equals(isUsable);
+    }
+
+    public static boolean allowsRental(Boolean isUsable, DeviceLatestApproval latest) {
+        if (latest == null) {
+            return Boolean.TRUE.equals(isUsable);
+        }
+        return allowsRental(isUsable, latest.getAction(), latest.getStatus());
+    }
+}
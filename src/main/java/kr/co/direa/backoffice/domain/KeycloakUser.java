@@ -0,0 +1,67 @@
+package kr.co.direa.backoffice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keycloak 사용자 디렉터리 로컬 사본.
+ * 주기 동기화(KeycloakUserDirectory)만 쓰고, 조회 경로는 읽기만 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "keycloak_users",
+        indexes = @Index(name = "idx_keycloak_users_username_key", columnList = "username_key"))
+public class KeycloakUser {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private UUID id;
+
+    @Column(name = "username", length = 255)
+    private String username;
+
+    /** 소문자로 정규화한 username (조회 키) */
+    @Column(name = "username_key", length = 255)
+    private String usernameKey;
+
+    @Column(name = "email", length = 255)
+    private String email;
+
+    @Column(name = "display_name", length = 255)
+    private String displayName;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+
+    public static KeycloakUser of(UUID id) {
+        KeycloakUser user = new KeycloakUser();
+        user.id = id;
+        return user;
+    }
+
+    public boolean update(String username, String usernameKey, String email, String displayName, LocalDateTime syncedAt) {
+        if (Objects.equals(this.username, username)
+                && Objects.equals(this.usernameKey, usernameKey)
+                && Objects.equals(this.email, email)
+                && Objects.equals(this.displayName, displayName)) {
+            return false;
+        }
+        this.username = username;
+        this.usernameKey = usernameKey;
+        this.email = email;
+        this.displayName = displayName;
+        this.syncedAt = syncedAt;
+        return true;
+    }
+}
@@ -296,7 +296,7 @@ public class ApprovalDeviceDto implements Serializable {
         return null;
     }
 
-    private String resolveApprovalInfo(ApprovalRequest request) {
+    public static String resolveApprovalInfo(ApprovalRequest request) {
         ApprovalStatus status = request.getStatus();
         if (status == null) {
             return null;
@@ -52,6 +52,7 @@ public class DeviceDto implements Serializable {
     private Long approvalId;
     private LocalDateTime deadline;
     private List<Map<String, Object>> history;
+    private Long historyCount;
 
     public DeviceDto(Devices entity, List<Map<String, Object>> history) {
         this.id = entity.getId();
@@ -18,6 +18,7 @@ public class PageResponse<T> {
     private final boolean first;
     private final boolean last;
     private final Map<String, Object> metadata;
+    private final String nextCursor;
 
     private PageResponse(List<T> content,
                          int page,
@@ -26,7 +27,8 @@ public class PageResponse<T> {
                          int totalPages,
                          boolean first,
                          boolean last,
-                         Map<String, Object> metadata) {
+                         Map<String, Object> metadata,
+                         String nextCursor) {
         this.content = content;
         this.page = page;
         this.size = size;
@@ -35,6 +37,7 @@ public class PageResponse<T> {
         this.first = first;
         this.last = last;
         this.metadata = metadata;
+        this.nextCursor = nextCursor;
     }
 
     public static <T> PageResponse<T> of(List<T> content,
@@ -59,6 +62,29 @@ public class PageResponse<T> {
                 safeTotalPages,
                 isFirst,
                 isLast,
-                immutableMetadata);
+                immutableMetadata,
+                null);
+    }
+
+    /**
+     * 커서(keyset) 페이지 응답. 전체 건수를 세지 않으므로 totalElements/totalPages는 현재 묶음 기준이다.
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content,
+                                               int size,
+                                               boolean first,
+                                               String nextCursor,
+                                               Map<String, Object> metadata) {
+        List<T> immutableContent = content == null ? List.of() : List.copyOf(content);
+        Map<String, Object> immutableMetadata =
+                metadata == null ? Map.of() : Collections.unmodifiableMap(metadata);
+        return new PageResponse<>(immutableContent,
+                1,
+                Math.max(size, 1),
+                immutableContent.size(),
+                1,
+                first,
+                nextCursor == null,
+                immutableMetadata,
+                nextCursor);
     }
 }
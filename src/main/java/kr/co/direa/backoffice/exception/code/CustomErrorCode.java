@@ -24,6 +24,7 @@ public enum CustomErrorCode {
     DEVICE_RECOVERY_NOT_DISPOSED(HttpStatus.CONFLICT, "DEV-004", "폐기된 장비만 복구할 수 있습니다."),
     DEVICE_APPLICANT_NOT_FOUND(HttpStatus.NOT_FOUND, "DEV-005", "신청자 정보를 찾을 수 없습니다."),
     DEVICE_OPERATOR_NOT_FOUND(HttpStatus.NOT_FOUND, "DEV-006", "처리자 정보를 찾을 수 없습니다."),
+    DEVICE_PAGE_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "DEV-007", "페이지 커서가 올바르지 않습니다. 첫 페이지부터 다시 조회해 주세요."),
     APPROVAL_USAGE_PERIOD_INCOMPLETE(HttpStatus.BAD_REQUEST, "APR-002", "사용 기간의 시작일과 종료일을 모두 입력해 주세요."),
     APPROVAL_USAGE_END_BEFORE_START(HttpStatus.BAD_REQUEST, "APR-003", "사용 종료일은 시작일 이후여야 합니다."),
     APPROVAL_NOT_FOUND(HttpStatus.NOT_FOUND, "APR-004", "Approval not found."),
@@ -42,6 +43,8 @@ public enum CustomErrorCode {
     APPROVAL_REQUESTER_UUID_MISSING(HttpStatus.INTERNAL_SERVER_ERROR, "APR-017", "요청자 Keycloak UUID를 설정할 수 없습니다."),
     APPROVAL_PENDING_DUPLICATE(HttpStatus.CONFLICT, "APR-018", "이미 처리 중인 반납/폐기 신청이 있습니다. 기존 신청을 완료해 주세요."),
     APPROVAL_ALREADY_TERMINATED(HttpStatus.CONFLICT, "APR-019", "이미 완료되거나 취소된 결재입니다."),
+    APPROVAL_STATUS_INVALID(HttpStatus.BAD_REQUEST, "APR-020", "지원하지 않는 결재 상태입니다."),
+    APPROVAL_INBOX_FORBIDDEN(HttpStatus.FORBIDDEN, "APR-021", "다른 사용자의 결재함은 관리자만 조회할 수 있습니다."),
 
     COMMENT_CONTENT_EMPTY(HttpStatus.BAD_REQUEST, "CMT-001", "Comment content must not be empty."),
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CMT-002", "Approval comment not found."),
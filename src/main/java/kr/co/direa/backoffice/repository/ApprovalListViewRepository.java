@@ -0,0 +1,43 @@
+package kr.co.direa.backoffice.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.co.direa.backoffice.domain.ApprovalListView;
+import kr.co.direa.backoffice.domain.enums.ApprovalCategory;
+
+public interface ApprovalListViewRepository extends JpaRepository<ApprovalListView, Long>,
+        JpaSpecificationExecutor<ApprovalListView> {
+
+    @Query("select distinct v.requesterName from ApprovalListView v "
+            + "where v.category = :category and v.requesterName is not null and v.requesterName <> ''")
+    List<String> findDistinctRequesterNames(@Param("category") ApprovalCategory category);
+
+    @Query("select distinct v.categoryName from ApprovalListView v "
+            + "where v.category = :category and v.categoryName is not null and v.categoryName <> ''")
+    List<String> findDistinctCategoryNames(@Param("category") ApprovalCategory category);
+
+    @Query("select distinct v.currentApproverName from ApprovalListView v "
+            + "where v.category = :category and v.currentApproverName is not null and v.currentApproverName <> ''")
+    List<String> findDistinctCurrentApproverNames(@Param("category") ApprovalCategory category);
+
+    /**
+     * 대표 장비의 카테고리 이름을 장비 테이블 기준으로 다시 맞춘다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update ApprovalListView v set v.categoryName = "
+            + "(select c.name from Devices d join d.categoryId c where d.id = v.deviceId) "
+            + "where v.deviceId in :deviceIds")
+    int refreshCategoryNames(@Param("deviceIds") Collection<String> deviceIds);
+
+    @Query("select r.id from ApprovalRequest r "
+            + "where not exists (select v.approvalId from ApprovalListView v where v.approvalId = r.id) "
+            + "order by r.id")
+    List<Long> findApprovalIdsMissingView();
+}
@@ -1,15 +1,49 @@
 package kr.co.direa.backoffice.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kr.co.direa.backoffice.domain.ApprovalStep;
+import kr.co.direa.backoffice.domain.enums.ApprovalCategory;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.StepStatus;
 
 public interface ApprovalStepRepository extends JpaRepository<ApprovalStep, Long> {
 
+    /**
+     * 승인자에게 지금 차례가 온 단계. resolveApprovalStep과 같이 Keycloak ID로 찾고,
+     * ID가 비어 있는 단계만 승인자 이름으로 찾는다. (승인자, 상태) 인덱스 두 개를 합쳐 읽는다.
+     */
+    String ACTIONABLE_STEP_CONDITION = "where s.status = :stepStatus "
+            + "and s.request.category = :category and s.request.status in :openStatuses "
+            + "and (s.approverExternalId = :approverExternalId "
+            + "     or (s.approverExternalId is null and s.approverName = :approverName)) ";
+
+    @Query(value = "select s.request.id from ApprovalStep s " + ACTIONABLE_STEP_CONDITION
+            + "order by coalesce(s.request.submittedAt, s.request.createdDate) desc, s.request.id desc",
+            countQuery = "select count(s) from ApprovalStep s " + ACTIONABLE_STEP_CONDITION)
+    Page<Long> findActionableRequestIds(@Param("category") ApprovalCategory category,
+                                        @Param("stepStatus") StepStatus stepStatus,
+                                        @Param("openStatuses") Collection<ApprovalStatus> openStatuses,
+                                        @Param("approverExternalId") UUID approverExternalId,
+                                        @Param("approverName") String approverName,
+                                        Pageable pageable);
+
+    @Query("select count(s) from ApprovalStep s " + ACTIONABLE_STEP_CONDITION)
+    long countActionable(@Param("category") ApprovalCategory category,
+                         @Param("stepStatus") StepStatus stepStatus,
+                         @Param("openStatuses") Collection<ApprovalStatus> openStatuses,
+                         @Param("approverExternalId") UUID approverExternalId,
+                         @Param("approverName") String approverName);
+
     Optional<ApprovalStep> findTopByRequestIdAndSequence(Long requestId, int sequence);
 
     List<ApprovalStep> findByRequestId(Long requestId);
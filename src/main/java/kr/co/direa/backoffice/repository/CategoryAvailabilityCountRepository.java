@@ -0,0 +1,26 @@
+package kr.co.direa.backoffice.repository;
+
+import java.util.List;
+
+import kr.co.direa.backoffice.domain.CategoryAvailabilityCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CategoryAvailabilityCountRepository extends JpaRepository<CategoryAvailabilityCount, String> {
+
+    List<CategoryAvailabilityCount> findByAvailableCountGreaterThan(long availableCount);
+
+    /**
+     * 카운터 행이 없으면 만들고 있으면 증감량만 더한다(음수로 내려가지 않음).
+     * 읽고-고치고-쓰기 대신 한 문장으로 처리하므로 새 카테고리를 동시에 만들어도 PK 충돌이 나지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO category_availability_count (category_name, available_count)
+        VALUES (:categoryName, GREATEST(:delta, 0))
+        ON DUPLICATE KEY UPDATE available_count = GREATEST(available_count + :delta, 0)
+        """, nativeQuery = true)
+    int upsertDelta(@Param("categoryName") String categoryName, @Param("delta") long delta);
+}
@@ -30,34 +30,98 @@ public interface DeviceApprovalDetailRepository extends JpaRepository<DeviceAppr
         "ORDER BY dad.request.createdDate DESC")
     List<DeviceApprovalDetail> findHistoryByDevice(@Param("deviceId") String deviceId);
 
-    @EntityGraph(attributePaths = {
-        "request",
-        "items",
-        "items.device"
-    })
-    @Query("SELECT DISTINCT dad FROM DeviceApprovalDetail dad " +
-        "LEFT JOIN dad.items items " +
-        "WHERE (dad.device.id = :deviceId OR items.device.id = :deviceId) " +
-        "AND dad.request.status IN :statuses " +
-        "ORDER BY dad.request.createdDate DESC")
-    List<DeviceApprovalDetail> findActiveByDeviceIdAndStatuses(
-        @Param("deviceId") String deviceId,
-        @Param("statuses") List<ApprovalStatus> statuses);
+    /**
+     * 선택한 장비 중 진행 중인 결재에 걸려 있는 (장비, 신청 유형)만 한 번에 조회한다.
+     * 상세의 장비와 항목(items)의 장비를 모두 본다.
+     */
+    @Query(value = """
+        SELECT items.device_id AS deviceId,
+               dad.action AS action
+          FROM device_approval_items items
+          JOIN device_approval_details dad ON dad.request_id = items.detail_id
+          JOIN approval_requests req ON req.id = dad.request_id
+         WHERE items.device_id IN :deviceIds
+           AND req.status IN :statuses
+           AND dad.action IN :actions
+        UNION
+        SELECT dad.device_id AS deviceId,
+               dad.action AS action
+          FROM device_approval_details dad
+          JOIN approval_requests req ON req.id = dad.request_id
+         WHERE dad.device_id IN :deviceIds
+           AND req.status IN :statuses
+           AND dad.action IN :actions
+        """, nativeQuery = true)
+    List<ActiveDeviceActionRow> findActiveDeviceActions(@Param("deviceIds") Collection<String> deviceIds,
+                                                        @Param("statuses") Collection<String> statuses,
+                                                        @Param("actions") Collection<String> actions);
 
-    @EntityGraph(attributePaths = {
-        "request",
-        "device",
-        "requestedProject",
-        "requestedDepartment",
-        "items",
-        "items.device"
-    })
-    @Query("SELECT DISTINCT dad FROM DeviceApprovalDetail dad " +
-        "LEFT JOIN dad.items items " +
-        "WHERE dad.device.id IN :deviceIds " +
-        "   OR items.device.id IN :deviceIds " +
-        "ORDER BY COALESCE(items.device.id, dad.device.id) ASC, dad.request.createdDate DESC")
-    List<DeviceApprovalDetail> findHistoryByDeviceIds(@Param("deviceIds") Collection<String> deviceIds);
+    /**
+     * 장비별 최근 이력을 DB에서 상태 필터와 장비당 건수 제한까지 적용해 평면 행으로 조회한다(device_events 백필용).
+     * 항목(items)이 있는 결재는 항목 장비 기준, 없는 결재는 상세의 장비 기준으로 묶는다.
+     */
+    @Query(value = """
+        SELECT ranked.device_id AS deviceId,
+               ranked.request_id AS requestId,
+               ranked.action AS action,
+               ranked.requester_name AS requesterName,
+               ranked.reason AS reason,
+               ranked.memo AS memo,
+               ranked.project_name AS projectName,
+               ranked.created_date AS createdDate,
+               ranked.modified_date AS modifiedDate,
+               ranked.completed_at AS completedAt
+          FROM (
+               SELECT source.*,
+                      ROW_NUMBER() OVER (PARTITION BY source.device_id ORDER BY source.created_date DESC, source.request_id DESC) AS rn
+                 FROM (
+                      SELECT items.device_id,
+                             req.id AS request_id,
+                             dad.action,
+                             req.requester_name,
+                             req.reason,
+                             dad.memo,
+                             COALESCE(rp.name, dp.name) AS project_name,
+                             req.created_date,
+                             req.modified_date,
+                             req.completed_at
+                        FROM device_approval_items items
+                        JOIN device_approval_details dad ON dad.request_id = items.detail_id
+                        JOIN approval_requests req ON req.id = dad.request_id
+                        JOIN devices d ON d.id = items.device_id
+                        LEFT JOIN projects rp ON rp.id = dad.requested_project_id
+                        LEFT JOIN projects dp ON dp.id = d.project_id
+                       WHERE items.device_id IN :deviceIds
+                         AND req.status = :status
+                      UNION ALL
+                      SELECT dad.device_id,
+                             req.id AS request_id,
+                             dad.action,
+                             req.requester_name,
+                             req.reason,
+                             dad.memo,
+                             COALESCE(rp.name, dp.name) AS project_name,
+                             req.created_date,
+                             req.modified_date,
+                             req.completed_at
+                        FROM device_approval_details dad
+                        JOIN approval_requests req ON req.id = dad.request_id
+                        JOIN devices d ON d.id = dad.device_id
+                        LEFT JOIN projects rp ON rp.id = dad.requested_project_id
+                        LEFT JOIN projects dp ON dp.id = d.project_id
+                       WHERE dad.device_id IN :deviceIds
+                         AND req.status = :status
+                         AND NOT EXISTS (
+                             SELECT 1 FROM device_approval_items items2 WHERE items2.detail_id = dad.request_id
+                         )
+                      ) source
+               ) ranked
+         WHERE ranked.rn <= :historyLimit
+         ORDER BY ranked.device_id, ranked.rn
+        """, nativeQuery = true)
+    List<DeviceHistoryRow> findHistoryRowsByDeviceIds(@Param("deviceIds") Collection<String> deviceIds,
+                                                      @Param("status") String status,
+                                                      @Param("historyLimit") int historyLimit);
 
     @EntityGraph(attributePaths = {
         "request",
@@ -141,6 +205,34 @@ public interface DeviceApprovalDetailRepository extends JpaRepository<DeviceAppr
        """, nativeQuery = true)
        List<Object[]> findLatestApprovalSnapshots(@Param("deviceIds") Collection<String> deviceIds);
 
+    interface DeviceHistoryRow {
+        String getDeviceId();
+
+        Long getRequestId();
+
+        String getAction();
+
+        String getRequesterName();
+
+        String getReason();
+
+        String getMemo();
+
+        String getProjectName();
+
+        LocalDateTime getCreatedDate();
+
+        LocalDateTime getModifiedDate();
+
+        LocalDateTime getCompletedAt();
+    }
+
+    interface ActiveDeviceActionRow {
+        String getDeviceId();
+
+        String getAction();
+    }
+
     interface DisposalStatusProjection {
         String getDeviceId();
 
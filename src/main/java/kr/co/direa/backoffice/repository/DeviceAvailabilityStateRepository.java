@@ -0,0 +1,15 @@
+package kr.co.direa.backoffice.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.LockModeType;
+import kr.co.direa.backoffice.domain.DeviceAvailabilityState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface DeviceAvailabilityStateRepository extends JpaRepository<DeviceAvailabilityState, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<DeviceAvailabilityState> findByDeviceIdIn(Collection<String> deviceIds);
+}
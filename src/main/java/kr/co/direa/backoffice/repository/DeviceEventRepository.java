@@ -0,0 +1,70 @@
+package kr.co.direa.backoffice.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.co.direa.backoffice.domain.DeviceEvent;
+
+public interface DeviceEventRepository extends JpaRepository<DeviceEvent, Long> {
+
+    boolean existsByDeviceIdAndRequestId(String deviceId, Long requestId);
+
+    @Query("SELECT e.deviceId AS deviceId, e.requestId AS requestId FROM DeviceEvent e WHERE e.deviceId IN :deviceIds")
+    List<DeviceEventKey> findKeysByDeviceIdIn(@Param("deviceIds") Collection<String> deviceIds);
+
+    /**
+     * 장비별 최신 이벤트를 (device_id, occurred_at) 인덱스 범위로 읽고 장비당 건수 제한을 DB에서 적용한다.
+     */
+    @Query(value = """
+        SELECT ranked.id,
+               ranked.device_id,
+               ranked.request_id,
+               ranked.action,
+               ranked.actor_name,
+               ranked.operator_username,
+               ranked.reason,
+               ranked.project_name,
+               ranked.occurred_at
+          FROM (
+               SELECT e.*,
+                      ROW_NUMBER() OVER (PARTITION BY e.device_id ORDER BY e.occurred_at DESC, e.id DESC) AS rn
+                 FROM device_events e
+                WHERE e.device_id IN :deviceIds
+               ) ranked
+         WHERE ranked.rn <= :eventLimit
+         ORDER BY ranked.device_id, ranked.rn
+        """, nativeQuery = true)
+    List<DeviceEvent> findRecentByDeviceIds(@Param("deviceIds") Collection<String> deviceIds,
+                                            @Param("eventLimit") int eventLimit);
+
+    @Query("SELECT e FROM DeviceEvent e "
+        + "WHERE e.deviceId = :deviceId "
+        + "AND (e.occurredAt < :beforeOccurredAt OR (e.occurredAt = :beforeOccurredAt AND e.id < :beforeId)) "
+        + "ORDER BY e.occurredAt DESC, e.id DESC")
+    List<DeviceEvent> findPageBefore(@Param("deviceId") String deviceId,
+                                     @Param("beforeOccurredAt") LocalDateTime beforeOccurredAt,
+                                     @Param("beforeId") long beforeId,
+                                     Pageable pageable);
+
+    @Query("SELECT e.deviceId AS deviceId, COUNT(e) AS eventCount FROM DeviceEvent e "
+        + "WHERE e.deviceId IN :deviceIds GROUP BY e.deviceId")
+    List<DeviceEventCount> countByDeviceIds(@Param("deviceIds") Collection<String> deviceIds);
+
+    interface DeviceEventKey {
+        String getDeviceId();
+
+        Long getRequestId();
+    }
+
+    interface DeviceEventCount {
+        String getDeviceId();
+
+        Long getEventCount();
+    }
+}
@@ -0,0 +1,7 @@
+package kr.co.direa.backoffice.repository;
+
+import kr.co.direa.backoffice.domain.DeviceLatestApproval;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DeviceLatestApprovalRepository extends JpaRepository<DeviceLatestApproval, String> {
+}
@@ -17,7 +17,9 @@ import org.springframework.lang.Nullable;
 import java.util.Collection;
 import java.util.List;
 
-public interface DevicesRepository extends JpaRepository<Devices, String>, JpaSpecificationExecutor<Devices> {
+public interface DevicesRepository extends JpaRepository<Devices, String>,
+        JpaSpecificationExecutor<Devices>,
+        DevicesRepositoryCustom {
 
     Long countByCategoryIdAndIsUsable(Categories category, boolean isUsable);
 
@@ -96,4 +98,62 @@ public interface DevicesRepository extends JpaRepository<Devices, String>, JpaSp
     List<Devices> findByStatusNot(@Param("status") String status);
 
     List<Devices> findByIsUsableTrue();
+
+    @EntityGraph(attributePaths = {
+        "deviceTags",
+        "deviceTags.tag",
+        "manageDep",
+        "categoryId",
+        "projectId"
+    })
+    @Query("SELECT d FROM Devices d")
+    List<Devices> findAllForSearchIndex();
+
+    @EntityGraph(attributePaths = {
+        "deviceTags",
+        "deviceTags.tag",
+        "manageDep",
+        "categoryId",
+        "projectId"
+    })
+    @Query("SELECT d FROM Devices d WHERE d.id IN :ids")
+    List<Devices> findAllForSearchIndexByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT d.id FROM Devices d "
+        + "WHERE NOT EXISTS (SELECT l.deviceId FROM DeviceLatestApproval l WHERE l.deviceId = d.id) "
+        + "AND EXISTS (SELECT dad.id FROM DeviceApprovalDetail dad LEFT JOIN dad.items items "
+        + "            WHERE dad.device = d OR items.device = d) "
+        + "ORDER BY d.id")
+    List<String> findIdsMissingLatestApproval();
+
+    /**
+     * 해당 상태의 (장비, 결재) 쌍 가운데 device_events에 아직 없는 쌍이 하나라도 있는 장비 ID.
+     * 쌍을 묶는 기준은 이력 행 조회(findHistoryRowsByDeviceIds)와 같다: 항목이 있으면 항목 장비, 없으면 상세의 장비.
+     */
+    @Query(value = """
+        SELECT DISTINCT pairs.device_id
+          FROM (
+               SELECT items.device_id, dad.request_id
+                 FROM device_approval_items items
+                 JOIN device_approval_details dad ON dad.request_id = items.detail_id
+                 JOIN approval_requests req ON req.id = dad.request_id
+                WHERE req.status = :status
+               UNION
+               SELECT dad.device_id, dad.request_id
+                 FROM device_approval_details dad
+                 JOIN approval_requests req ON req.id = dad.request_id
+                WHERE dad.device_id IS NOT NULL
+                  AND req.status = :status
+                  AND NOT EXISTS (
+                      SELECT 1 FROM device_approval_items items2 WHERE items2.detail_id = dad.request_id
+                  )
+               ) pairs
+          JOIN devices d ON d.id = pairs.device_id
+         WHERE NOT EXISTS (
+               SELECT 1 FROM device_events e
+                WHERE e.device_id = pairs.device_id AND e.request_id = pairs.request_id
+               )
+         ORDER BY pairs.device_id
+        """, nativeQuery = true)
+    List<String> findIdsMissingDeviceEvents(@Param("status") String status);
 }
@@ -0,0 +1,22 @@
+package kr.co.direa.backoffice.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import kr.co.direa.backoffice.domain.Devices;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface DevicesRepositoryCustom {
+
+    /**
+     * 조건에 맞는 장비를 attributePath(예: "categoryId.name", "purpose") 값으로 묶어 건수를 반환한다.
+     * null/공백 값은 제외한다.
+     */
+    Map<String, Long> countGroupedBy(Specification<Devices> spec, String attributePath);
+
+    /**
+     * 조건/정렬에 맞는 장비를 offset부터 limit건만 조회한다(count 쿼리 없음). 커서/슬라이스 조회용.
+     */
+    List<Devices> findWindow(Specification<Devices> spec, Sort sort, long offset, int limit);
+}
@@ -0,0 +1,98 @@
+package kr.co.direa.backoffice.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import kr.co.direa.backoffice.domain.Devices;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class DevicesRepositoryCustomImpl implements DevicesRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<String, Long> countGroupedBy(Specification<Devices> spec, String attributePath) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Devices> root = query.from(Devices.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        Expression<String> groupKey = resolvePath(root, attributePath);
+
+        query.multiselect(groupKey, cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(groupKey);
+        query.distinct(false);
+
+        List<Object[]> rows = entityManager.createQuery(query).getResultList();
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            if (row == null || row.length < 2 || row[0] == null) {
+                continue;
+            }
+            String key = row[0].toString();
+            if (key.isBlank()) {
+                continue;
+            }
+            long count = row[1] instanceof Number number ? number.longValue() : 0L;
+            result.merge(key, count, Long::sum);
+        }
+        return result;
+    }
+
+    @Override
+    public List<Devices> findWindow(Specification<Devices> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Devices> query = cb.createQuery(Devices.class);
+        Root<Devices> root = query.from(Devices.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        query.select(root);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) Math.min(Math.max(offset, 0L), Integer.MAX_VALUE))
+                .setMaxResults(Math.max(limit, 1))
+                .getResultList();
+    }
+
+    private Expression<String> resolvePath(Root<Devices> root, String attributePath) {
+        String[] parts = attributePath.split("\\.");
+        From<?, ?> from = root;
+        for (int i = 0; i < parts.length - 1; i++) {
+            from = getOrCreateJoin(from, parts[i]);
+        }
+        return from.get(parts[parts.length - 1]);
+    }
+
+    private From<?, ?> getOrCreateJoin(From<?, ?> from, String attribute) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute() != null && attribute.equals(join.getAttribute().getName())) {
+                return join;
+            }
+        }
+        return from.join(attribute, JoinType.LEFT);
+    }
+}
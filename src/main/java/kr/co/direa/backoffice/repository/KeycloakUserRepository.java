@@ -0,0 +1,9 @@
+package kr.co.direa.backoffice.repository;
+
+import java.util.UUID;
+
+import kr.co.direa.backoffice.domain.KeycloakUser;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface KeycloakUserRepository extends JpaRepository<KeycloakUser, UUID> {
+}
@@ -0,0 +1,174 @@
+package kr.co.direa.backoffice.repository.spec;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import kr.co.direa.backoffice.domain.ApprovalListView;
+import kr.co.direa.backoffice.domain.enums.ApprovalCategory;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 결재함 목록 조건/정렬.
+ * approval_list_view에 화면 표시 값(대표 장비, 카테고리, 결재 정보 문구, 구분)이 그대로 들어 있으므로
+ * 조인 없이 한 테이블에서 필터/정렬/페이징을 끝내고 DTO는 현재 페이지만 만든다.
+ */
+public final class ApprovalListSpecifications {
+
+    private ApprovalListSpecifications() {
+    }
+
+    /**
+     * 결재함 조건과 정렬을 함께 만든다. Pageable에는 정렬을 넣지 않는다.
+     * 정렬은 기존 비교기 규칙(상태 우선순위 → 접수일 최신순 → ID)을 ORDER BY로 옮긴 것이며 count 쿼리에서는 생략한다.
+     */
+    public static Specification<ApprovalListView> inbox(ApprovalInboxSearchContext context) {
+        return (root, query, cb) -> {
+            Predicate predicate = cb.and(
+                    cb.equal(root.get("category"), ApprovalCategory.DEVICE),
+                    buildChipPredicate(context, root, cb),
+                    buildKeywordPredicate(context, root, cb));
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                query.orderBy(buildOrders(context, root, cb));
+            }
+            return predicate;
+        };
+    }
+
+    /**
+     * 검색 색인으로 미리 좁힌 결재 ID 조건. 비어 있으면 결과가 없다.
+     */
+    public static Specification<ApprovalListView> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids == null || ids.isEmpty()
+                ? cb.disjunction()
+                : root.get("approvalId").in(ids);
+    }
+
+    public static Specification<ApprovalListView> category(ApprovalCategory category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    /**
+     * 비어 있으면 상태 조건을 걸지 않는다.
+     */
+    public static Specification<ApprovalListView> statusIn(Collection<ApprovalStatus> statuses) {
+        return (root, query, cb) -> statuses == null || statuses.isEmpty()
+                ? cb.conjunction()
+                : root.get("status").in(statuses);
+    }
+
+    public static Specification<ApprovalListView> requesterExternalId(UUID requesterExternalId) {
+        return (root, query, cb) -> cb.equal(root.get("requesterExternalId"), requesterExternalId);
+    }
+
+    public static Specification<ApprovalListView> requesterNameIn(Collection<String> requesterNames) {
+        return (root, query, cb) -> requesterNames == null || requesterNames.isEmpty()
+                ? cb.disjunction()
+                : root.get("requesterName").in(requesterNames);
+    }
+
+    private static List<Order> buildOrders(ApprovalInboxSearchContext context,
+                                           Root<ApprovalListView> root,
+                                           CriteriaBuilder cb) {
+        boolean descending = context.descending();
+        Path<Integer> statusPriority = root.get("statusPriority");
+        Path<LocalDateTime> submission = root.get("submittedAt");
+        Path<Long> id = root.get("approvalId");
+
+        List<Order> orders = new ArrayList<>();
+        switch (context.sortField()) {
+            case "submittedAt" -> {
+                orders.add(cb.asc(statusPriority));
+                // 기존 비교기와 같이 기본은 최신순이고, desc를 요청하면 뒤집힌다.
+                orders.add(descending ? cb.asc(submission) : cb.desc(submission));
+            }
+            case "approvalId" -> orders.add(descending ? cb.desc(id) : cb.asc(id));
+            case "deviceId" -> {
+                Expression<String> deviceId = cb.coalesce(root.<String>get("deviceId"), "");
+                orders.add(descending ? cb.desc(deviceId) : cb.asc(deviceId));
+            }
+            case "deadline" -> {
+                Path<LocalDateTime> dueDate = root.get("dueDate");
+                Expression<Integer> nullFlag = cb.<Integer>selectCase()
+                        .when(cb.isNull(dueDate), 1)
+                        .otherwise(0);
+                orders.add(descending ? cb.desc(nullFlag) : cb.asc(nullFlag));
+                orders.add(descending ? cb.desc(dueDate) : cb.asc(dueDate));
+            }
+            case "type" -> {
+                Expression<String> type = cb.coalesce(root.<String>get("typeName"), "");
+                orders.add(descending ? cb.desc(type) : cb.asc(type));
+            }
+            case "approvalStatus" -> orders.add(descending ? cb.desc(statusPriority) : cb.asc(statusPriority));
+            default -> {
+            }
+        }
+        if (!"submittedAt".equals(context.sortField())) {
+            orders.add(cb.asc(statusPriority));
+            orders.add(cb.desc(submission));
+        }
+        orders.add(cb.asc(id));
+        return orders;
+    }
+
+    private static Predicate buildChipPredicate(ApprovalInboxSearchContext context,
+                                                Root<ApprovalListView> root,
+                                                CriteriaBuilder cb) {
+        String chip = context.chipValue();
+        if (chip == null) {
+            return cb.conjunction();
+        }
+        return switch (context.filterField()) {
+            case "categoryName" -> cb.equal(root.get("categoryName"), chip);
+            case "userName" -> cb.equal(root.get("requesterName"), chip);
+            case "approverName" -> cb.equal(root.get("currentApproverName"), chip);
+            case "approvalInfo" -> {
+                ApprovalStatus targetStatus = ApprovalStatus.fromDisplayName(chip);
+                yield targetStatus != null
+                        ? cb.equal(root.get("status"), targetStatus)
+                        : cb.equal(root.get("approvalInfo"), chip);
+            }
+            default -> cb.conjunction();
+        };
+    }
+
+    private static Predicate buildKeywordPredicate(ApprovalInboxSearchContext context,
+                                                   Root<ApprovalListView> root,
+                                                   CriteriaBuilder cb) {
+        String keyword = context.keyword();
+        if (keyword == null) {
+            return cb.conjunction();
+        }
+        String lowered = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+        return switch (context.filterField()) {
+            case "approvalId" -> cb.like(root.get("approvalId").as(String.class), lowered);
+            case "categoryName" -> cb.like(cb.lower(root.get("categoryName")), lowered);
+            case "userName" -> cb.like(cb.lower(root.get("requesterName")), lowered);
+            case "deviceId" -> cb.like(cb.lower(root.get("deviceId")), lowered);
+            case "approverName" -> cb.like(cb.lower(root.get("approverNames")), lowered);
+            case "approvalInfo" -> cb.like(cb.lower(cb.concat(cb.concat(
+                    cb.coalesce(root.<String>get("typeName"), ""), " "),
+                    cb.coalesce(root.<String>get("approvalInfo"), ""))), lowered);
+            default -> cb.conjunction();
+        };
+    }
+
+    public record ApprovalInboxSearchContext(String filterField,
+                                             String keyword,
+                                             String chipValue,
+                                             String sortField,
+                                             boolean descending) {
+    }
+}
@@ -3,6 +3,7 @@ package kr.co.direa.backoffice.repository.spec;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -12,7 +13,11 @@ import java.util.Optional;
 import jakarta.persistence.criteria.*;
 
 import kr.co.direa.backoffice.constant.Constants;
+import kr.co.direa.backoffice.domain.DeviceLatestApproval;
+import kr.co.direa.backoffice.domain.DeviceTag;
 import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.DeviceApprovalAction;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class DeviceSpecifications {
@@ -35,6 +40,40 @@ public final class DeviceSpecifications {
         };
     }
 
+    /**
+     * 관리자 대장 커서 조건: (정렬 키, id) 튜플이 마지막으로 본 행보다 뒤에 오는 장비.
+     * 정렬은 buildAdminSort와 같이 (키 방향, id 오름차순)이며, NULL은 MariaDB 기본대로
+     * 오름차순에서 가장 앞, 내림차순에서 가장 뒤에 온다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Devices> adminKeysetAfter(String sortProperty,
+                                                          boolean ascending,
+                                                          Comparable lastValue,
+                                                          String lastId) {
+        return (root, query, cb) -> {
+            Expression<Comparable> key = resolveSortPath(root, sortProperty);
+            Expression<String> id = root.get("id");
+            if (lastValue == null) {
+                Predicate nullKeyAfterId = cb.and(cb.isNull(key), cb.greaterThan(id, lastId));
+                return ascending ? cb.or(nullKeyAfterId, cb.isNotNull(key)) : nullKeyAfterId;
+            }
+            Predicate sameKeyAfterId = cb.and(cb.equal(key, lastValue), cb.greaterThan(id, lastId));
+            if (ascending) {
+                return cb.or(cb.greaterThan(key, lastValue), sameKeyAfterId);
+            }
+            return cb.or(cb.lessThan(key, lastValue), sameKeyAfterId, cb.isNull(key));
+        };
+    }
+
+    /**
+     * 검색 색인으로 미리 좁힌 장비 ID 조건. 비어 있으면 결과가 없다.
+     */
+    public static Specification<Devices> idIn(Collection<String> ids) {
+        return (root, query, cb) -> ids == null || ids.isEmpty()
+                ? cb.disjunction()
+                : root.get("id").in(ids);
+    }
+
     public static Specification<Devices> adminDisposalOnly(boolean disposedOnly) {
         return (root, query, cb) -> {
             if (query != null) {
@@ -44,6 +83,114 @@ public final class DeviceSpecifications {
         };
     }
 
+    /**
+     * 대여 가능 목록 노출 규칙(DeviceService#isDeviceVisibleInAvailableList)을 SQL로 옮긴 조건.
+     * - 최신 결재가 대여 대기/진행이면 제외
+     * - 그 외에는 사용 가능 장비이거나, 최신 결재가 반납 대기/완료 또는 대여 반려인 경우 노출
+     */
+    public static Specification<Devices> availableForRental() {
+        return (root, query, cb) -> {
+            Predicate rentalPending = latestApprovalMatches(root, query, cb,
+                    DeviceApprovalAction.RENTAL,
+                    List.of(ApprovalStatus.PENDING, ApprovalStatus.IN_PROGRESS),
+                    false);
+            Predicate returnWaiting = latestApprovalMatches(root, query, cb,
+                    DeviceApprovalAction.RETURN,
+                    List.of(ApprovalStatus.PENDING, ApprovalStatus.IN_PROGRESS, ApprovalStatus.APPROVED),
+                    true);
+            Predicate rentalRejected = latestApprovalMatches(root, query, cb,
+                    DeviceApprovalAction.RENTAL,
+                    List.of(ApprovalStatus.REJECTED),
+                    false);
+
+            return cb.and(
+                    cb.not(rentalPending),
+                    cb.or(cb.isTrue(root.get("isUsable")), returnWaiting, rentalRejected));
+        };
+    }
+
+    public static Specification<Devices> availableSearch(AvailableDeviceSearchContext context) {
+        Specification<Devices> chipSpec = (root, query, cb) -> buildAvailableChipPredicate(context, root, cb);
+        Specification<Devices> keywordSpec = (root, query, cb) -> buildAvailableKeywordPredicate(context, root, query, cb);
+        return availableForRental().and(chipSpec).and(keywordSpec);
+    }
+
+    private static Predicate buildAvailableChipPredicate(AvailableDeviceSearchContext context,
+                                                         Root<Devices> root,
+                                                         CriteriaBuilder cb) {
+        String chip = normalize(context.chipValue());
+        String field = normalize(context.filterField());
+        if (chip == null || field == null) {
+            return cb.conjunction();
+        }
+        return switch (field) {
+            case "categoryName" -> cb.equal(resolveCategoryName(root), chip);
+            case "purpose" -> cb.equal(root.get("purpose"), chip);
+            default -> cb.conjunction();
+        };
+    }
+
+    private static Predicate buildAvailableKeywordPredicate(AvailableDeviceSearchContext context,
+                                                            Root<Devices> root,
+                                                            CriteriaQuery<?> query,
+                                                            CriteriaBuilder cb) {
+        String rawKeyword = normalize(context.keyword());
+        if (rawKeyword == null) {
+            return cb.conjunction();
+        }
+        String lowered = "%" + rawKeyword.toLowerCase(Locale.ROOT) + "%";
+
+        String field = Optional.ofNullable(normalize(context.filterField())).orElse("all");
+        return switch (field) {
+            case "categoryName" -> likeExpression(resolveCategoryName(root), lowered, cb);
+            case "id" -> likeExpression(root.get("id"), lowered, cb);
+            case "purpose" -> likeExpression(root.get("purpose"), lowered, cb);
+            case "tags" -> tagLikePredicate(root, query, cb, lowered);
+            default -> cb.or(
+                    likeExpression(resolveCategoryName(root), lowered, cb),
+                    likeExpression(root.get("id"), lowered, cb),
+                    likeExpression(root.get("purpose"), lowered, cb),
+                    likeExpression(root.get("description"), lowered, cb),
+                    tagLikePredicate(root, query, cb, lowered));
+        };
+    }
+
+    private static Predicate tagLikePredicate(Root<Devices> root,
+                                              CriteriaQuery<?> query,
+                                              CriteriaBuilder cb,
+                                              String loweredKeyword) {
+        Subquery<Long> tagQuery = query.subquery(Long.class);
+        Root<DeviceTag> deviceTag = tagQuery.from(DeviceTag.class);
+        tagQuery.select(deviceTag.get("id")).where(
+                cb.equal(deviceTag.get("device"), root),
+                cb.like(cb.lower(deviceTag.join("tag").get("name")), loweredKeyword));
+        return cb.exists(tagQuery);
+    }
+
+    /**
+     * 장비의 최신 결재(device_latest_approval)가 주어진 유형/상태인지 확인하는 EXISTS 조건.
+     */
+    private static Predicate latestApprovalMatches(Root<Devices> root,
+                                                   CriteriaQuery<?> query,
+                                                   CriteriaBuilder cb,
+                                                   DeviceApprovalAction action,
+                                                   List<ApprovalStatus> statuses,
+                                                   boolean includeNullStatus) {
+        Subquery<String> latest = query.subquery(String.class);
+        Root<DeviceLatestApproval> latestRoot = latest.from(DeviceLatestApproval.class);
+
+        Predicate statusPredicate = latestRoot.get("status").in(statuses);
+        if (includeNullStatus) {
+            statusPredicate = cb.or(statusPredicate, cb.isNull(latestRoot.get("status")));
+        }
+
+        latest.select(latestRoot.get("deviceId")).where(
+                cb.equal(latestRoot.get("deviceId"), root.get("id")),
+                cb.equal(latestRoot.get("action"), action),
+                statusPredicate);
+        return cb.exists(latest);
+    }
+
     private static Predicate buildDisposalPredicate(boolean disposedOnly,
                                                     Root<Devices> root,
                                                     CriteriaQuery<?> query,
@@ -170,6 +317,14 @@ public final class DeviceSpecifications {
         }
     }
 
+    private static <T> Expression<T> resolveSortPath(Root<Devices> root, String sortProperty) {
+        int dot = sortProperty.indexOf('.');
+        if (dot < 0) {
+            return root.get(sortProperty);
+        }
+        return getOrCreateJoin(root, sortProperty.substring(0, dot)).get(sortProperty.substring(dot + 1));
+    }
+
     private static Expression<String> resolveCategoryName(Root<Devices> root) {
         return getOrCreateJoin(root, "categoryId").get("name");
     }
@@ -214,6 +369,11 @@ public final class DeviceSpecifications {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
+    public record AvailableDeviceSearchContext(String filterField,
+                                               String keyword,
+                                               String chipValue) {
+    }
+
     public record AdminDeviceSearchContext(String filterField,
                                            String filterValue,
                                            String keyword,
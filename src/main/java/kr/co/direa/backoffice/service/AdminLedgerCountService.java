@@ -0,0 +1,88 @@
+package kr.co.direa.backoffice.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.repository.DevicesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+/**
+ * 슬라이스 조회용 전체 건수.
+ * - 요청 스레드에서는 count 쿼리를 실행하지 않고, 마지막으로 계산된 값을 돌려준다.
+ * - 값이 없거나 대장 버전이 바뀌었으면 별도 스레드에서 다시 센다(같은 조건은 한 번만).
+ */
+@Slf4j
+@Service
+public class AdminLedgerCountService {
+    private static final int MAX_ENTRIES = 500;
+
+    private final DevicesRepository devicesRepository;
+    private final AdminLedgerMetadataService adminLedgerMetadataService;
+    private final Executor ledgerCountExecutor;
+
+    private final Map<CountKey, CountEntry> counts = new ConcurrentHashMap<>();
+    private final Map<CountKey, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public AdminLedgerCountService(DevicesRepository devicesRepository,
+                                   AdminLedgerMetadataService adminLedgerMetadataService,
+                                   @Qualifier("ledgerCountExecutor") Executor ledgerCountExecutor) {
+        this.devicesRepository = devicesRepository;
+        this.adminLedgerMetadataService = adminLedgerMetadataService;
+        this.ledgerCountExecutor = ledgerCountExecutor;
+    }
+
+    /**
+     * 알고 있는 전체 건수를 돌려주고, 최신이 아니면 백그라운드 재계산을 요청한다.
+     * 한 번도 계산된 적이 없으면 null.
+     */
+    public TotalEstimate estimate(CountKey key, Specification<Devices> spec) {
+        long version = adminLedgerMetadataService.currentVersion();
+        CountEntry entry = counts.get(key);
+        boolean exact = entry != null && entry.version() == version;
+        if (!exact) {
+            scheduleCount(key, spec, version);
+        }
+        return entry == null ? null : new TotalEstimate(entry.total(), exact);
+    }
+
+    private void scheduleCount(CountKey key, Specification<Devices> spec, long version) {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, pending) != null) {
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> {
+                long total = devicesRepository.count(spec);
+                if (counts.size() >= MAX_ENTRIES) {
+                    counts.clear();
+                }
+                counts.merge(key, new CountEntry(version, total),
+                        (existing, updated) -> existing.version() > updated.version() ? existing : updated);
+            }, ledgerCountExecutor).whenComplete((ignored, ex) -> {
+                if (ex != null) {
+                    log.warn("Admin ledger count failed for {}: {}", key, ex.getMessage());
+                }
+                inFlight.remove(key, pending);
+                pending.complete(null);
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    public record CountKey(boolean disposedOnly, String filterField, String filterValue, String keyword) {
+    }
+
+    public record TotalEstimate(long total, boolean exact) {
+    }
+
+    private record CountEntry(long version, long total) {
+    }
+}
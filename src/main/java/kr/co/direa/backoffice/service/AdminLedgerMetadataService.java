@@ -0,0 +1,99 @@
+package kr.co.direa.backoffice.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.repository.DevicesRepository;
+import kr.co.direa.backoffice.repository.spec.DeviceSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 관리자 장비 대장의 필터 목록/상태별 건수 메타데이터.
+ * - 컬럼별 GROUP BY 집계로 만들고, 장비 변경 시 올라가는 대장 버전 단위로 캐시한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminLedgerMetadataService {
+    private static final String UNKNOWN_STATUS = "UNKNOWN";
+
+    private static final Map<String, String> FILTER_COLUMNS = Map.of(
+            "categoryName", "categoryId.name",
+            "username", "realUser",
+            "manageDepName", "manageDep.name",
+            "projectName", "projectId.name",
+            "purpose", "purpose",
+            "company", "company",
+            "status", "status");
+
+    private final DevicesRepository devicesRepository;
+    private final KoreanCollationKeys koreanCollationKeys;
+
+    private final AtomicLong ledgerVersion = new AtomicLong();
+    private final Map<Boolean, CachedMetadata> cache = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getMetadata(boolean disposedOnly) {
+        long version = ledgerVersion.get();
+        CachedMetadata cached = cache.get(disposedOnly);
+        if (cached == null || cached.version() != version) {
+            cached = new CachedMetadata(version, buildMetadata(disposedOnly));
+            cache.put(disposedOnly, cached);
+        }
+        Map<String, Object> metadata = new HashMap<>(cached.metadata());
+        metadata.put("ledgerVersion", cached.version());
+        return metadata;
+    }
+
+    public long currentVersion() {
+        return ledgerVersion.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDevicesChanged(DeviceChangedEvent event) {
+        if (event == null || event.isEmpty()) {
+            return;
+        }
+        ledgerVersion.incrementAndGet();
+    }
+
+    private Map<String, Object> buildMetadata(boolean disposedOnly) {
+        Specification<Devices> spec = DeviceSpecifications.adminDisposalOnly(disposedOnly);
+
+        Map<String, List<String>> filters = new HashMap<>();
+        Map<String, Long> statusCounts = new HashMap<>();
+        for (Map.Entry<String, String> column : FILTER_COLUMNS.entrySet()) {
+            Map<String, Long> grouped = devicesRepository.countGroupedBy(spec, column.getValue());
+            filters.put(column.getKey(), koreanCollationKeys.sortedDistinct(grouped.keySet()));
+            if ("status".equals(column.getKey())) {
+                grouped.forEach((status, count) -> statusCounts.merge(status.trim(), count, Long::sum));
+            }
+        }
+        filters.put("id", List.of());
+
+        long totalRecords = devicesRepository.count(spec);
+        long unknownCount = totalRecords - statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        if (unknownCount > 0) {
+            statusCounts.put(UNKNOWN_STATUS, unknownCount);
+        }
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("filters", Map.copyOf(filters));
+        metadata.put("statusCounts", Map.copyOf(statusCounts));
+        metadata.put("totalRecords", totalRecords);
+        metadata.put("disposedOnly", disposedOnly);
+        metadata.put("pageSizeOptions", List.of(10, 25, 50));
+        return Map.copyOf(metadata);
+    }
+
+    private record CachedMetadata(long version, Map<String, Object> metadata) {
+    }
+}
@@ -0,0 +1,7 @@
+package kr.co.direa.backoffice.service;
+
+/**
+ * 결재 생성/상태 변경 이벤트.
+ */
+public record ApprovalChangedEvent(Long approvalId) {
+}
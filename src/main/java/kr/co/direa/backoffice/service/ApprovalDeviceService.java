@@ -1,17 +1,12 @@
 package kr.co.direa.backoffice.service;
 
-import java.text.Collator;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Objects;
@@ -19,11 +14,17 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import kr.co.direa.backoffice.config.ApprovalProperties;
 import kr.co.direa.backoffice.constant.Constants;
+import kr.co.direa.backoffice.domain.ApprovalListView;
 import kr.co.direa.backoffice.domain.ApprovalRequest;
 import kr.co.direa.backoffice.domain.ApprovalStep;
 import kr.co.direa.backoffice.domain.Departments;
@@ -41,13 +42,19 @@ import kr.co.direa.backoffice.dto.DeviceApplicationRequestDto;
 import kr.co.direa.backoffice.dto.PageResponse;
 import kr.co.direa.backoffice.exception.CustomException;
 import kr.co.direa.backoffice.exception.code.CustomErrorCode;
+import kr.co.direa.backoffice.repository.ApprovalListViewRepository;
 import kr.co.direa.backoffice.repository.ApprovalRequestRepository;
 import kr.co.direa.backoffice.repository.ApprovalStepRepository;
 import kr.co.direa.backoffice.repository.DeviceApprovalDetailRepository;
 import kr.co.direa.backoffice.repository.DepartmentsRepository;
 import kr.co.direa.backoffice.repository.DevicesRepository;
 import kr.co.direa.backoffice.repository.ProjectsRepository;
+import kr.co.direa.backoffice.repository.spec.ApprovalListSpecifications;
+import kr.co.direa.backoffice.security.AdminAuthorization;
+import kr.co.direa.backoffice.service.search.ApprovalSearchIndex;
+import kr.co.direa.backoffice.vo.ApprovalInboxRequest;
 import kr.co.direa.backoffice.vo.ApprovalSearchRequest;
+import kr.co.direa.backoffice.vo.MyApprovalSearchRequest;
 import kr.co.direa.backoffice.vo.ApprovalUpdateRequest;
 import lombok.RequiredArgsConstructor;
 
@@ -56,8 +63,12 @@ import lombok.RequiredArgsConstructor;
 public class ApprovalDeviceService {
     private static final String DEFAULT_METADATA_PROJECT_NAME = "본사";
     private static final String DEFAULT_METADATA_DEPARTMENT_NAME = "경영지원부";
+    private static final List<ApprovalStatus> OPEN_APPROVAL_STATUSES = List.of(ApprovalStatus.PENDING, ApprovalStatus.IN_PROGRESS);
+    private static final Sort MY_APPROVALS_SORT = Sort.by(Sort.Order.desc("submittedAt"), Sort.Order.desc("approvalId"));
+    private static final List<DeviceApprovalAction> BLOCKING_DEVICE_ACTIONS = List.of(DeviceApprovalAction.RETURN, DeviceApprovalAction.DISPOSAL);
 
     private final ApprovalRequestRepository approvalRequestRepository;
+    private final ApprovalListViewRepository approvalListViewRepository;
     private final ApprovalStepRepository approvalStepRepository;
     private final DevicesRepository devicesRepository;
     private final ProjectsRepository projectsRepository;
@@ -69,6 +80,11 @@ public class ApprovalDeviceService {
     private final DeviceApprovalDetailRepository deviceApprovalDetailRepository;
     private final TagsService tagsService;
     private final MailService mailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeviceLatestApprovalService deviceLatestApprovalService;
+    private final ApprovalSearchIndex approvalSearchIndex;
+    private final KoreanCollationKeys koreanCollationKeys;
+    private final AdminAuthorization adminAuthorization;
 
     @Transactional
     public ApprovalDeviceDto submitApplication(DeviceApplicationRequestDto request) {
@@ -224,6 +240,7 @@ public class ApprovalDeviceService {
 
         ApprovalRequest saved = approvalRequestRepository.save(approval);
         saved.getDetail(); // force persistence
+        onApprovalChanged(saved);
 
         saved.getSteps().stream()
                 .filter(step -> step.getStatus() == StepStatus.IN_PROGRESS)
@@ -281,6 +298,7 @@ public class ApprovalDeviceService {
         }
 
         ApprovalRequest savedApproval = approvalRequestRepository.save(approval);
+        onApprovalChanged(savedApproval);
 
         if (nextStep != null) {
             notifyApplicantOnProgress(savedApproval, step);
@@ -332,7 +350,9 @@ public class ApprovalDeviceService {
 
     notifyApplicantOnRejection(approval, approverInfo, normalizedApproverUsername, reason);
 
-        return new ApprovalDeviceDto(approvalRequestRepository.save(approval));
+        ApprovalRequest saved = approvalRequestRepository.save(approval);
+        onApprovalChanged(saved);
+        return new ApprovalDeviceDto(saved);
     }
 
     @Transactional
@@ -351,6 +371,7 @@ public class ApprovalDeviceService {
         approval.restartWorkflow();
 
         ApprovalRequest saved = approvalRequestRepository.save(approval);
+        onApprovalChanged(saved);
         saved.getSteps().stream()
                 .filter(step -> step.getStatus() == StepStatus.IN_PROGRESS)
                 .findFirst()
@@ -359,78 +380,244 @@ public class ApprovalDeviceService {
         return new ApprovalDeviceDto(saved);
     }
 
+    /**
+     * 결재함 목록. 조건/정렬/페이징은 DB에서 처리하고 현재 페이지의 결재만 DTO로 만든다.
+     */
     @Transactional(readOnly = true)
     public PageResponse<ApprovalDeviceDto> findPendingApprovals(ApprovalSearchRequest request) {
-        List<ApprovalDeviceDto> baseList = loadPendingApprovalDtos();
-
-        Set<String> categorySet = new HashSet<>();
-        Set<String> applicantSet = new HashSet<>();
-        baseList.forEach(dto -> {
-            if (dto.getCategoryName() != null && !dto.getCategoryName().isBlank()) {
-                categorySet.add(dto.getCategoryName());
-            }
-            if (dto.getUserName() != null && !dto.getUserName().isBlank()) {
-                applicantSet.add(dto.getUserName());
-            }
-        });
-
         String normalizedFilterField = normalizeApprovalFilterField(request.filterField());
         String normalizedKeyword = normalizeKeyword(request.keyword());
         String normalizedChip = normalizeChipValue(request.chipValue());
-
-        List<ApprovalDeviceDto> filtered = baseList.stream()
-                .filter(dto -> matchesChip(dto, normalizedFilterField, normalizedChip))
-                .filter(dto -> matchesKeyword(dto, normalizedFilterField, normalizedKeyword))
-                .sorted(buildApprovalComparator(request.sortField(), request.sortOrder()))
-                .collect(Collectors.toList());
-
         int size = clampSize(request.size());
-        int totalElements = filtered.size();
-        int totalPages = Math.max(1, (int) Math.ceil((double) totalElements / size));
-        int page = clampPage(request.page(), totalPages, totalElements);
-        int fromIndex = Math.min((page - 1) * size, totalElements);
-        int toIndex = Math.min(fromIndex + size, totalElements);
-        List<ApprovalDeviceDto> content = filtered.subList(fromIndex, toIndex);
 
-        Collator collator = Collator.getInstance(Locale.KOREAN);
-        collator.setStrength(Collator.PRIMARY);
+        Optional<Set<Long>> indexedIds = approvalSearchIndex.matchApprovalIds(normalizedKeyword,
+                List.of(normalizedFilterField));
+        Specification<ApprovalListView> spec = ApprovalListSpecifications.inbox(
+                new ApprovalListSpecifications.ApprovalInboxSearchContext(normalizedFilterField,
+                        indexedIds.isPresent() ? null : normalizedKeyword,
+                        normalizedChip,
+                        normalizeSortField(request.sortField()),
+                        "desc".equalsIgnoreCase(request.sortOrder())));
+        if (indexedIds.isPresent()) {
+            spec = spec.and(ApprovalListSpecifications.idIn(indexedIds.get()));
+        }
+
+        int page = Math.max(request.page(), 1);
+        Page<ApprovalListView> approvalPage = approvalListViewRepository.findAll(spec, PageRequest.of(page - 1, size));
+        if (approvalPage.getTotalElements() == 0) {
+            page = 1;
+        } else if (page > approvalPage.getTotalPages()) {
+            page = approvalPage.getTotalPages();
+            approvalPage = approvalListViewRepository.findAll(spec, PageRequest.of(page - 1, size));
+        }
+        List<ApprovalDeviceDto> content = loadApprovalDtosInOrder(approvalPage.getContent().stream()
+                .map(ApprovalListView::getApprovalId)
+                .toList());
 
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("categories", categorySet.stream().sorted(collator).toList());
-        metadata.put("applicants", applicantSet.stream().sorted(collator).toList());
-
-        return PageResponse.of(content, page, size, totalElements, totalPages, metadata);
+        metadata.put("categories", koreanCollationKeys.sorted(
+                approvalListViewRepository.findDistinctCategoryNames(ApprovalCategory.DEVICE)));
+        metadata.put("applicants", koreanCollationKeys.sorted(
+                approvalListViewRepository.findDistinctRequesterNames(ApprovalCategory.DEVICE)));
+        metadata.put("approvers", koreanCollationKeys.sorted(
+                approvalListViewRepository.findDistinctCurrentApproverNames(ApprovalCategory.DEVICE)));
+
+        int totalPages = Math.max(approvalPage.getTotalPages(), 1);
+        return PageResponse.of(content, page, size, approvalPage.getTotalElements(), totalPages, metadata);
+    }
+
+    /**
+     * 목록 뷰에서 고른 결재 ID 순서대로 상세 DTO를 만든다.
+     */
+    private List<ApprovalDeviceDto> loadApprovalDtosInOrder(List<Long> approvalIds) {
+        if (approvalIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ApprovalRequest> requestsById = approvalRequestRepository.findAllById(approvalIds).stream()
+                .collect(Collectors.toMap(ApprovalRequest::getId, approval -> approval, (left, right) -> left));
+        return approvalIds.stream()
+                .map(requestsById::get)
+                .filter(Objects::nonNull)
+                .map(ApprovalDeviceDto::new)
+                .toList();
     }
 
+    /**
+     * 기존 /my-approval-list/{username} 응답(전체 목록). 조회 조건은 페이지 조회와 같은 인덱스를 탄다.
+     */
     @Transactional(readOnly = true)
     public List<ApprovalDeviceDto> findApprovalsForUser(String username) {
+        return myApprovalsSpec(username, Set.of())
+                .map(spec -> loadApprovalDtosInOrder(approvalListViewRepository.findAll(spec, MY_APPROVALS_SORT).stream()
+                        .map(ApprovalListView::getApprovalId)
+                        .toList()))
+                .orElseGet(List::of);
+    }
+
+    /**
+     * 내 결재 목록. 관리자는 전체, 그 외에는 신청자 Keycloak ID로 찾고 ID를 모를 때만 신청자 이름으로 찾는다.
+     * 모두 approval_list_view의 (category, requester_*, submitted_at) 인덱스 범위로 페이지만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ApprovalDeviceDto> findApprovalsForUser(String username, MyApprovalSearchRequest request) {
+        int size = clampSize(request.size());
+        Optional<Specification<ApprovalListView>> candidate = myApprovalsSpec(username, parseStatuses(request.status()));
+        if (candidate.isEmpty()) {
+            return PageResponse.of(List.of(), 1, size, 0, 1, null);
+        }
+        Specification<ApprovalListView> spec = candidate.get();
+
+        int page = request.page();
+        Page<ApprovalListView> approvalPage = approvalListViewRepository.findAll(spec, PageRequest.of(page - 1, size, MY_APPROVALS_SORT));
+        if (approvalPage.getTotalElements() == 0) {
+            page = 1;
+        } else if (page > approvalPage.getTotalPages()) {
+            page = approvalPage.getTotalPages();
+            approvalPage = approvalListViewRepository.findAll(spec, PageRequest.of(page - 1, size, MY_APPROVALS_SORT));
+        }
+        List<ApprovalDeviceDto> content = loadApprovalDtosInOrder(approvalPage.getContent().stream()
+                .map(ApprovalListView::getApprovalId)
+                .toList());
+        return PageResponse.of(content, page, size, approvalPage.getTotalElements(),
+                Math.max(approvalPage.getTotalPages(), 1), null);
+    }
+
+    /**
+     * 관리자는 전체, 그 외에는 신청자 본인(Keycloak ID 우선, 없으면 이름 후보) 결재. 본인을 특정할 수 없으면 Optional.empty().
+     */
+    private Optional<Specification<ApprovalListView>> myApprovalsSpec(String username, Set<ApprovalStatus> statuses) {
         CommonLookupService.KeycloakUserInfo userInfo = resolveUserInfo(username);
+        Specification<ApprovalListView> spec = ApprovalListSpecifications.category(ApprovalCategory.DEVICE)
+                .and(ApprovalListSpecifications.statusIn(statuses));
         if (isAdminUser(username, userInfo)) {
-            return approvalRequestRepository.findByCategoryOrderBySubmittedAtDesc(ApprovalCategory.DEVICE)
-                    .stream()
-                    .map(ApprovalDeviceDto::new)
-                    .toList();
+            return Optional.of(spec);
         }
-
         UUID targetExternalId = Optional.ofNullable(userInfo)
                 .map(CommonLookupService.KeycloakUserInfo::id)
                 .orElseGet(() -> commonLookupService.currentUserIdFromJwt()
                         .map(this::safeUuid)
                         .orElse(null));
-
-        List<ApprovalRequest> approvals;
         if (targetExternalId != null) {
-            approvals = approvalRequestRepository
-                    .findByCategoryAndRequesterExternalIdOrderBySubmittedAtDesc(ApprovalCategory.DEVICE, targetExternalId);
-        } else {
-            approvals = approvalRequestRepository.findByCategoryOrderBySubmittedAtDesc(ApprovalCategory.DEVICE).stream()
-                    .filter(request -> isRequester(request, userInfo, username))
-                    .toList();
+            return Optional.of(spec.and(ApprovalListSpecifications.requesterExternalId(targetExternalId)));
+        }
+        Set<String> requesterNames = resolveRequesterNames(userInfo, username);
+        if (requesterNames.isEmpty()) {
+            return Optional.empty();
         }
+        return Optional.of(spec.and(ApprovalListSpecifications.requesterNameIn(requesterNames)));
+    }
 
-        return approvals.stream()
-                .map(ApprovalDeviceDto::new)
-                .toList();
+    /**
+     * Keycloak ID가 없는 사용자의 신청자 이름 후보. isRequester의 이름 비교 규칙과 같다.
+     * requester_name은 대소문자 구분 없는 collation이라 IN 비교도 인덱스를 탄다.
+     */
+    private Set<String> resolveRequesterNames(CommonLookupService.KeycloakUserInfo userInfo, String username) {
+        Set<String> names = new LinkedHashSet<>();
+        if (userInfo != null && userInfo.displayName() != null && !userInfo.displayName().isBlank()) {
+            names.add(userInfo.displayName().trim());
+        }
+        String normalizedUsername = safeUsername(userInfo, username);
+        if (normalizedUsername != null) {
+            names.add(normalizedUsername);
+        }
+        if (username != null && !username.isBlank()) {
+            names.add(username.trim());
+        }
+        return names;
+    }
+
+    private Set<ApprovalStatus> parseStatuses(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Set.of();
+        }
+        Set<ApprovalStatus> statuses = new LinkedHashSet<>();
+        for (String token : raw.split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            ApprovalStatus status = ApprovalStatus.fromDisplayName(token.trim());
+            if (status == null) {
+                throw new CustomException(CustomErrorCode.APPROVAL_STATUS_INVALID, "Unknown approval status: " + token.trim());
+            }
+            statuses.add(status);
+        }
+        return statuses;
+    }
+
+    /**
+     * 승인자 결재함. 현재 차례(IN_PROGRESS)인 단계가 나에게 배정된 진행 중 결재만 approval_steps 인덱스로 고른다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ApprovalDeviceDto> findApprovalInbox(ApprovalInboxRequest request) {
+        int size = clampSize(request.size());
+        ApproverIdentity approver = resolveApproverIdentity(request.username());
+        if (approver == null) {
+            return PageResponse.of(List.of(), 1, size, 0, 1, null);
+        }
+
+        int page = request.page();
+        Page<Long> idPage = findActionableRequestIds(approver, PageRequest.of(page - 1, size));
+        if (idPage.getTotalElements() == 0) {
+            page = 1;
+        } else if (page > idPage.getTotalPages()) {
+            page = idPage.getTotalPages();
+            idPage = findActionableRequestIds(approver, PageRequest.of(page - 1, size));
+        }
+        List<ApprovalDeviceDto> content = loadApprovalDtosInOrder(idPage.getContent());
+        return PageResponse.of(content, page, size, idPage.getTotalElements(),
+                Math.max(idPage.getTotalPages(), 1), null);
+    }
+
+    /**
+     * 배지용 건수. DTO를 만들지 않고 count 쿼리 하나만 실행한다.
+     */
+    @Transactional(readOnly = true)
+    public long countApprovalInbox(String username) {
+        ApproverIdentity approver = resolveApproverIdentity(username);
+        if (approver == null) {
+            return 0L;
+        }
+        return approvalStepRepository.countActionable(ApprovalCategory.DEVICE,
+                StepStatus.IN_PROGRESS,
+                OPEN_APPROVAL_STATUSES,
+                approver.externalId(),
+                approver.username());
+    }
+
+    private Page<Long> findActionableRequestIds(ApproverIdentity approver, PageRequest pageRequest) {
+        return approvalStepRepository.findActionableRequestIds(ApprovalCategory.DEVICE,
+                StepStatus.IN_PROGRESS,
+                OPEN_APPROVAL_STATUSES,
+                approver.externalId(),
+                approver.username(),
+                pageRequest);
+    }
+
+    /**
+     * 결재함 주인은 로그인 사용자다. 다른 사용자의 결재함(username 지정)은 관리자만 볼 수 있다.
+     */
+    private ApproverIdentity resolveApproverIdentity(String username) {
+        String currentUsername = commonLookupService.currentUsernameFromJwt().orElse(null);
+        boolean otherUser = username != null && !username.isBlank()
+                && !username.trim().equalsIgnoreCase(currentUsername);
+        if (otherUser && !adminAuthorization.hasAdminAccess()) {
+            throw new CustomException(CustomErrorCode.APPROVAL_INBOX_FORBIDDEN);
+        }
+        String candidate = otherUser ? username.trim() : currentUsername;
+        CommonLookupService.KeycloakUserInfo approverInfo = resolveUserInfo(candidate);
+        UUID externalId = Optional.ofNullable(approverInfo)
+                .map(CommonLookupService.KeycloakUserInfo::id)
+                .orElseGet(() -> otherUser
+                        ? null
+                        : commonLookupService.currentUserIdFromJwt().map(this::safeUuid).orElse(null));
+        String approverUsername = safeUsername(approverInfo, candidate);
+        if (externalId == null && approverUsername == null) {
+            return null;
+        }
+        return new ApproverIdentity(externalId, approverUsername);
+    }
+
+    private record ApproverIdentity(UUID externalId, String username) {
     }
 
     @Transactional
@@ -477,6 +664,7 @@ public class ApprovalDeviceService {
 
         approval.markCancelled();
         approvalRequestRepository.save(approval);
+        onApprovalChanged(approval);
     }
 
     @Transactional
@@ -641,6 +829,7 @@ public class ApprovalDeviceService {
     }
 
         ApprovalRequest saved = approvalRequestRepository.save(approval);
+        onApprovalChanged(saved);
         saved.getSteps().stream()
             .filter(step -> step.getSequence() == 1)
             .findFirst()
@@ -651,24 +840,6 @@ public class ApprovalDeviceService {
         return new ApprovalDeviceDto(saved);
     }
 
-    private List<ApprovalDeviceDto> loadPendingApprovalDtos() {
-        List<ApprovalStatus> statuses = Arrays.stream(ApprovalStatus.values())
-                .toList();
-
-        List<ApprovalRequest> approvals = approvalRequestRepository.findByCategoryAndStatusIn(
-                ApprovalCategory.DEVICE,
-                statuses);
-
-    approvals.sort(Comparator.comparing(
-        (ApprovalRequest request) -> Optional.ofNullable(request.getSubmittedAt())
-            .orElse(request.getCreatedDate()),
-        Comparator.nullsLast(Comparator.naturalOrder())));
-
-        return approvals.stream()
-                .map(ApprovalDeviceDto::new)
-                .toList();
-    }
-
     private String normalizeApprovalFilterField(String raw) {
         if (raw == null || raw.isBlank()) {
             return "categoryName";
@@ -679,6 +850,7 @@ public class ApprovalDeviceService {
             case "신청자", "userName" -> "userName";
             case "신청정보", "approvalInfo" -> "approvalInfo";
             case "관리번호", "deviceId" -> "deviceId";
+            case "결재자", "approverName" -> "approverName";
             default -> "categoryName";
         };
     }
@@ -702,89 +874,6 @@ public class ApprovalDeviceService {
         return trimmed;
     }
 
-    private boolean matchesChip(ApprovalDeviceDto dto, String filterField, String chipValue) {
-        if (chipValue == null) {
-            return true;
-        }
-        return switch (filterField) {
-            case "categoryName" -> chipValue.equals(dto.getCategoryName());
-            case "userName" -> chipValue.equals(dto.getUserName());
-            case "approvalInfo" -> {
-                ApprovalStatus targetStatus = ApprovalStatus.fromDisplayName(chipValue);
-                if (targetStatus != null && dto.getApprovalStatus() != null) {
-                    yield dto.getApprovalStatus() == targetStatus;
-                }
-                yield chipValue.equals(dto.getApprovalInfo());
-            }
-            default -> true;
-        };
-    }
-
-    private boolean matchesKeyword(ApprovalDeviceDto dto, String filterField, String keyword) {
-        if (keyword == null || keyword.isBlank()) {
-            return true;
-        }
-        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
-        return switch (filterField) {
-            case "approvalId" -> containsIgnoreCase(String.valueOf(dto.getApprovalId()), lowerKeyword);
-            case "categoryName" -> containsIgnoreCase(dto.getCategoryName(), lowerKeyword);
-            case "userName" -> containsIgnoreCase(dto.getUserName(), lowerKeyword);
-            case "deviceId" -> containsIgnoreCase(dto.getDeviceId(), lowerKeyword);
-            case "approvalInfo" -> {
-                String combined = ((dto.getType() == null ? "" : dto.getType()) + " "
-                        + (dto.getApprovalInfo() == null ? "" : dto.getApprovalInfo())).trim();
-                yield containsIgnoreCase(combined, lowerKeyword);
-            }
-            default -> true;
-        };
-    }
-
-    private Comparator<ApprovalDeviceDto> buildApprovalComparator(String sortFieldRaw, String sortOrderRaw) {
-        String sortField = normalizeSortField(sortFieldRaw);
-        boolean desc = "desc".equalsIgnoreCase(sortOrderRaw);
-
-        Comparator<ApprovalDeviceDto> statusComparator = Comparator
-                .comparingInt(dto -> statusPriority(dto.getApprovalStatus()));
-        Comparator<ApprovalDeviceDto> submissionComparator = Comparator.comparing(
-                (ApprovalDeviceDto dto) -> resolveSubmittedAt(dto),
-                Comparator.nullsLast(Comparator.reverseOrder()));
-        Comparator<ApprovalDeviceDto> idComparator = Comparator.comparingLong(
-                dto -> Optional.ofNullable(dto.getApprovalId()).orElse(Long.MAX_VALUE));
-        Comparator<ApprovalDeviceDto> defaultTieBreaker = statusComparator
-                .thenComparing(submissionComparator)
-                .thenComparing(idComparator);
-
-        if ("submittedAt".equals(sortField)) {
-            Comparator<ApprovalDeviceDto> orderedSubmission = desc
-                    ? submissionComparator.reversed()
-                    : submissionComparator;
-            return statusComparator
-                    .thenComparing(orderedSubmission)
-                    .thenComparing(idComparator);
-        }
-
-        Comparator<ApprovalDeviceDto> fieldComparator = switch (sortField) {
-            case "approvalId" -> idComparator;
-            case "deviceId" -> Comparator.comparing(
-                    dto -> defaultString(dto.getDeviceId()),
-                    localeAwareStringComparator());
-            case "deadline" -> Comparator.comparing(
-                    ApprovalDeviceDto::getDeadline,
-                    Comparator.nullsLast(Comparator.naturalOrder()));
-            case "type" -> Comparator.comparing(
-                    dto -> defaultString(dto.getType()),
-                    localeAwareStringComparator());
-            case "approvalStatus" -> Comparator.comparingInt(dto -> statusPriority(dto.getApprovalStatus()));
-            default -> submissionComparator;
-        };
-
-        if (desc) {
-            fieldComparator = fieldComparator.reversed();
-        }
-
-        return fieldComparator.thenComparing(defaultTieBreaker);
-    }
-
     private String normalizeSortField(String raw) {
         if (raw == null || raw.isBlank()) {
             return "submittedAt";
@@ -807,52 +896,6 @@ public class ApprovalDeviceService {
         return Math.min(size, 100);
     }
 
-    private int clampPage(int page, int totalPages, int totalElements) {
-        if (totalElements == 0) {
-            return 1;
-        }
-        if (page <= 0) {
-            return 1;
-        }
-        return Math.min(page, Math.max(totalPages, 1));
-    }
-
-    private boolean containsIgnoreCase(String value, String keyword) {
-        if (value == null) {
-            return false;
-        }
-        return value.toLowerCase(Locale.ROOT).contains(keyword);
-    }
-
-    private int statusPriority(ApprovalStatus status) {
-        if (status == null) {
-            return 5;
-        }
-        return switch (status) {
-            case PENDING, IN_PROGRESS -> 0;
-            case APPROVED -> 1;
-            case REJECTED, CANCELLED -> 2;
-        };
-    }
-
-    private LocalDateTime resolveSubmittedAt(ApprovalDeviceDto dto) {
-        if (dto == null) {
-            return null;
-        }
-        return Optional.ofNullable(dto.getSubmittedAt())
-                .orElse(dto.getCreatedDate());
-    }
-
-    private String defaultString(String value) {
-        return value == null ? "" : value;
-    }
-
-    private Comparator<String> localeAwareStringComparator() {
-        Collator collator = Collator.getInstance(Locale.KOREAN);
-        collator.setStrength(Collator.PRIMARY);
-        return (left, right) -> collator.compare(left, right);
-    }
-
     private boolean isAdminUser(String username, CommonLookupService.KeycloakUserInfo userInfo) {
         if (userInfo != null && userInfo.username() != null && commonLookupService.isAdminUser(userInfo.username())) {
             return true;
@@ -1148,35 +1191,64 @@ public class ApprovalDeviceService {
         return department;
     }
 
+    /**
+     * 반납/폐기 신청은 같은 장비에 진행 중인 반납/폐기 결재가 있으면 막는다.
+     * 선택한 장비 전체를 한 번에 조회해 충돌한 장비만 돌려받는다.
+     */
     private void validateDuplicateDeviceAction(List<Devices> devices, DeviceApprovalAction requestedAction) {
-        if (devices == null || devices.isEmpty()) {
+        if (devices == null || devices.isEmpty() || requestedAction == null) {
             return;
         }
-        for (Devices device : devices) {
-            validateDuplicateDeviceAction(device, requestedAction);
-        }
-    }
-
-    private void validateDuplicateDeviceAction(Devices device, DeviceApprovalAction requestedAction) {
-        if (device == null || requestedAction == null) {
+        if (!BLOCKING_DEVICE_ACTIONS.contains(requestedAction)) {
             return;
         }
-        if (requestedAction != DeviceApprovalAction.RETURN && requestedAction != DeviceApprovalAction.DISPOSAL) {
+        Set<String> deviceIds = devices.stream()
+                .filter(Objects::nonNull)
+                .map(Devices::getId)
+                .filter(id -> id != null && !id.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (deviceIds.isEmpty()) {
             return;
         }
 
-        List<DeviceApprovalDetail> activeDetails = deviceApprovalDetailRepository.findActiveByDeviceIdAndStatuses(
-                device.getId(),
-                List.of(ApprovalStatus.PENDING, ApprovalStatus.IN_PROGRESS));
+        List<DeviceApprovalDetailRepository.ActiveDeviceActionRow> conflicts = deviceApprovalDetailRepository
+                .findActiveDeviceActions(deviceIds,
+                        OPEN_APPROVAL_STATUSES.stream().map(ApprovalStatus::name).toList(),
+                        BLOCKING_DEVICE_ACTIONS.stream().map(DeviceApprovalAction::name).toList());
+        if (!conflicts.isEmpty()) {
+            String detail = conflicts.stream()
+                    .map(row -> row.getDeviceId() + "(" + actionDisplayName(row.getAction()) + ")")
+                    .distinct()
+                    .collect(Collectors.joining(", "));
+            throw new CustomException(CustomErrorCode.APPROVAL_PENDING_DUPLICATE,
+                    CustomErrorCode.APPROVAL_PENDING_DUPLICATE.getMessage() + " (" + detail + ")");
+        }
+    }
 
-        boolean hasBlocking = activeDetails.stream()
-                .map(DeviceApprovalDetail::getAction)
-                .filter(Objects::nonNull)
-                .anyMatch(action -> action == DeviceApprovalAction.RETURN || action == DeviceApprovalAction.DISPOSAL);
+    private String actionDisplayName(String action) {
+        if (action == null) {
+            return null;
+        }
+        try {
+            return DeviceApprovalAction.valueOf(action).getDisplayName();
+        } catch (IllegalArgumentException ex) {
+            return action;
+        }
+    }
 
-        if (hasBlocking) {
-            throw new CustomException(CustomErrorCode.APPROVAL_PENDING_DUPLICATE);
+    private void onApprovalChanged(ApprovalRequest approval) {
+        if (approval == null || !(approval.getDetail() instanceof DeviceApprovalDetail detail)) {
+            return;
         }
+        deviceLatestApprovalService.record(approval);
+        if (approval.getId() != null) {
+            eventPublisher.publishEvent(new ApprovalChangedEvent(approval.getId()));
+        }
+        List<String> deviceIds = detail.resolveDevices().stream()
+                .filter(Objects::nonNull)
+                .map(Devices::getId)
+                .toList();
+        eventPublisher.publishEvent(DeviceChangedEvent.of(deviceIds));
     }
 
     private void applyDeviceStateOnCompletion(ApprovalRequest approval) {
@@ -0,0 +1,160 @@
+package kr.co.direa.backoffice.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import kr.co.direa.backoffice.domain.ApprovalListView;
+import kr.co.direa.backoffice.domain.ApprovalRequest;
+import kr.co.direa.backoffice.domain.ApprovalStep;
+import kr.co.direa.backoffice.domain.Categories;
+import kr.co.direa.backoffice.domain.DeviceApprovalDetail;
+import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.StepStatus;
+import kr.co.direa.backoffice.dto.ApprovalDeviceDto;
+import kr.co.direa.backoffice.repository.ApprovalListViewRepository;
+import kr.co.direa.backoffice.repository.ApprovalRequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * approval_list_view 관리.
+ * - 결재가 바뀌면 커밋 직전(BEFORE_COMMIT)에 해당 결재 행을 같은 트랜잭션에서 다시 만든다
+ * - 장비 카테고리가 바뀌면 그 장비를 대표 장비로 가진 행의 카테고리 이름만 일괄 갱신한다
+ */
+@Service
+@RequiredArgsConstructor
+public class ApprovalListViewService {
+    private static final int APPROVER_NAMES_MAX_LENGTH = 500;
+
+    private final ApprovalListViewRepository approvalListViewRepository;
+    private final ApprovalRequestRepository approvalRequestRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onApprovalChanged(ApprovalChangedEvent event) {
+        if (event == null || event.approvalId() == null) {
+            return;
+        }
+        approvalRequestRepository.findById(event.approvalId()).ifPresentOrElse(this::refresh,
+                () -> approvalListViewRepository.deleteById(event.approvalId()));
+    }
+
+    /**
+     * 프로젝트/부서 이름 변경(allDevices)은 목록에 보이는 카테고리 이름을 바꾸지 않으므로 무시한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onDevicesChanged(DeviceChangedEvent event) {
+        if (event == null || event.isEmpty() || event.allDevices()) {
+            return;
+        }
+        approvalListViewRepository.refreshCategoryNames(event.deviceIds());
+    }
+
+    @Transactional
+    public void refresh(ApprovalRequest request) {
+        if (request == null || request.getId() == null) {
+            return;
+        }
+        ApprovalListView view = approvalListViewRepository.findById(request.getId())
+                .orElseGet(() -> ApprovalListView.of(request.getId()));
+        apply(view, request);
+        approvalListViewRepository.save(view);
+    }
+
+    /**
+     * 아직 목록 행이 없는 결재를 채운다.
+     */
+    @Transactional
+    public int backfill(Collection<Long> approvalIds) {
+        if (approvalIds == null || approvalIds.isEmpty()) {
+            return 0;
+        }
+        var existing = approvalListViewRepository.findAllById(approvalIds).stream()
+                .collect(Collectors.toMap(ApprovalListView::getApprovalId, Function.identity()));
+        List<ApprovalListView> views = approvalRequestRepository.findAllById(approvalIds).stream()
+                .filter(request -> request.getId() != null && !existing.containsKey(request.getId()))
+                .map(request -> {
+                    ApprovalListView view = ApprovalListView.of(request.getId());
+                    apply(view, request);
+                    return view;
+                })
+                .toList();
+        approvalListViewRepository.saveAll(views);
+        return views.size();
+    }
+
+    private void apply(ApprovalListView view, ApprovalRequest request) {
+        DeviceApprovalDetail detail = request.getDetail() instanceof DeviceApprovalDetail deviceDetail
+                ? deviceDetail
+                : null;
+        List<Devices> devices = detail != null
+                ? detail.resolveDevices().stream()
+                        .filter(device -> device != null && device.getId() != null && !device.getId().isBlank())
+                        .toList()
+                : List.of();
+        Devices primaryDevice = devices.isEmpty() ? null : devices.get(0);
+
+        List<ApprovalStep> steps = Optional.ofNullable(request.getSteps()).orElse(List.of()).stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingInt(ApprovalStep::getSequence))
+                .toList();
+        String currentApproverName = isOpen(request.getStatus())
+                ? steps.stream()
+                        .filter(step -> step.getStatus() == StepStatus.IN_PROGRESS)
+                        .map(ApprovalStep::getApproverName)
+                        .findFirst()
+                        .orElse(null)
+                : null;
+
+        view.update(request.getCategory(),
+                request.getTitle(),
+                request.getRequesterName(),
+                request.getRequesterExternalId(),
+                request.getStatus(),
+                statusPriority(request.getStatus()),
+                ApprovalDeviceDto.resolveApprovalInfo(request),
+                detail != null ? detail.getAction() : null,
+                primaryDevice != null ? primaryDevice.getId().trim() : null,
+                Optional.ofNullable(primaryDevice).map(Devices::getCategoryId).map(Categories::getName).orElse(null),
+                currentApproverName,
+                joinApproverNames(steps),
+                resolveSubmittedAt(request),
+                request.getDueDate());
+    }
+
+    private boolean isOpen(ApprovalStatus status) {
+        return status == ApprovalStatus.PENDING || status == ApprovalStatus.IN_PROGRESS;
+    }
+
+    private int statusPriority(ApprovalStatus status) {
+        if (isOpen(status)) {
+            return 0;
+        }
+        return status == ApprovalStatus.APPROVED ? 1 : 2;
+    }
+
+    private LocalDateTime resolveSubmittedAt(ApprovalRequest request) {
+        return Optional.ofNullable(request.getSubmittedAt()).orElse(request.getCreatedDate());
+    }
+
+    private String joinApproverNames(List<ApprovalStep> steps) {
+        String joined = steps.stream()
+                .map(ApprovalStep::getApproverName)
+                .filter(name -> name != null && !name.isBlank())
+                .collect(Collectors.joining(", "));
+        if (joined.isEmpty()) {
+            return null;
+        }
+        return joined.length() > APPROVER_NAMES_MAX_LENGTH ? joined.substring(0, APPROVER_NAMES_MAX_LENGTH) : joined;
+    }
+}
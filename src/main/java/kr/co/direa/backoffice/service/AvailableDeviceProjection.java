@@ -0,0 +1,119 @@
+package kr.co.direa.backoffice.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import kr.co.direa.backoffice.dto.DeviceDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대여 가능 장비 목록의 메모리 상주 프로젝션.
+ * - 최초 조회 시 한 번 전체를 빌드하고, 이후에는 변경된 장비 행만 교체한다.
+ * - 조회는 락 없이 현재 스냅샷을 읽고, 빌드/갱신은 하나의 락으로 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailableDeviceProjection {
+
+    private final KoreanCollationKeys koreanCollationKeys;
+    private final Object lock = new Object();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public Snapshot getOrBuild(Supplier<List<DeviceDto>> loader) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (lock) {
+            if (snapshot == null) {
+                Map<String, DeviceDto> rows = new TreeMap<>();
+                for (DeviceDto dto : loader.get()) {
+                    if (dto != null && dto.getId() != null) {
+                        rows.put(dto.getId(), dto);
+                    }
+                }
+                snapshot = Snapshot.of(versionSequence.incrementAndGet(), rows, koreanCollationKeys);
+                log.debug("Available device projection built: version={}, rows={}", snapshot.version(), rows.size());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 변경된 장비만 다시 적재해 스냅샷을 교체한다.
+     * 아직 빌드되지 않았다면 다음 조회 시 전체 빌드되므로 아무것도 하지 않는다.
+     */
+    public void refresh(Collection<String> deviceIds, Function<Collection<String>, List<DeviceDto>> loader) {
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            Map<String, DeviceDto> rows = new TreeMap<>(current.rowsById());
+            deviceIds.forEach(rows::remove);
+            for (DeviceDto dto : loader.apply(deviceIds)) {
+                if (dto != null && dto.getId() != null) {
+                    rows.put(dto.getId(), dto);
+                }
+            }
+            snapshot = Snapshot.of(versionSequence.incrementAndGet(), rows, koreanCollationKeys);
+        }
+    }
+
+    public void invalidate() {
+        synchronized (lock) {
+            snapshot = null;
+            versionSequence.incrementAndGet();
+        }
+    }
+
+    public record Snapshot(long version,
+                           Map<String, DeviceDto> rowsById,
+                           List<DeviceDto> rows,
+                           List<String> categories,
+                           List<String> purposes,
+                           Map<String, Long> categoryCounts,
+                           Map<String, Long> purposeCounts) {
+
+        static Snapshot of(long version, Map<String, DeviceDto> rowsById, KoreanCollationKeys collationKeys) {
+            Set<String> categories = new HashSet<>();
+            Set<String> purposes = new HashSet<>();
+            Map<String, Long> categoryCounts = new HashMap<>();
+            Map<String, Long> purposeCounts = new HashMap<>();
+            for (DeviceDto dto : rowsById.values()) {
+                if (dto.getCategoryName() != null && !dto.getCategoryName().isBlank()) {
+                    categories.add(dto.getCategoryName());
+                    categoryCounts.merge(dto.getCategoryName(), 1L, Long::sum);
+                }
+                if (dto.getPurpose() != null && !dto.getPurpose().isBlank()) {
+                    purposes.add(dto.getPurpose());
+                    purposeCounts.merge(dto.getPurpose(), 1L, Long::sum);
+                }
+            }
+
+            return new Snapshot(version,
+                    Collections.unmodifiableMap(rowsById),
+                    List.copyOf(rowsById.values()),
+                    collationKeys.sorted(categories),
+                    collationKeys.sorted(purposes),
+                    Map.copyOf(categoryCounts),
+                    Map.copyOf(purposeCounts));
+        }
+    }
+}
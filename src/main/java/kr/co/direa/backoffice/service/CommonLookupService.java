@@ -6,26 +6,38 @@ import kr.co.direa.backoffice.domain.Projects;
 import kr.co.direa.backoffice.repository.CategoriesRepository;
 import kr.co.direa.backoffice.repository.DepartmentsRepository;
 import kr.co.direa.backoffice.repository.ProjectsRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static kr.co.direa.backoffice.service.KeycloakAdminTokenProvider.isBlank;
 
 /**
  * 공통 조회/유틸 모음 서비스.
@@ -33,13 +45,22 @@ import java.util.UUID;
  * - 향후 공통 변환/검증/포맷 함수들을 이곳에 확장 가능합니다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CommonLookupService {
+    private static final long BATCH_LOOKUP_TIMEOUT_SECONDS = 10;
+
     private final CategoriesRepository categoriesRepository;
     private final DepartmentsRepository departmentsRepository;
     private final ProjectsRepository projectsRepository;
     private final CacheManager cacheManager;
+    private final Executor keycloakLookupExecutor;
+    private final KeycloakAdminTokenProvider keycloakAdminTokenProvider;
+    private final RestTemplate keycloakRestTemplate;
+    private final KeycloakUserDirectory keycloakUserDirectory;
+    private final KeycloakAdminGroupMembers keycloakAdminGroupMembers;
+    // 캐시 미스가 겹쳐도 사용자당 Admin API 호출은 한 번만 나가도록 진행 중인 조회를 공유
+    private final SingleFlight<UUID, Optional<KeycloakUserInfo>> userByIdFlights = new SingleFlight<>();
+    private final SingleFlight<String, Optional<KeycloakUserInfo>> userByUsernameFlights = new SingleFlight<>();
 
     public static final String CACHE_KEYCLOAK_USER_INFO_BY_USERNAME = "keycloakUserInfoByUsername";
     public static final String CACHE_KEYCLOAK_USER_INFO_BY_ID = "keycloakUserInfoById";
@@ -50,17 +71,33 @@ public class CommonLookupService {
     private String keycloakRealm;
     @Value("${app.keycloak.admin-client-id:}")
     private String keycloakAdminClientId;
-    @Value("${app.keycloak.admin-client-secret:}")
-    private String keycloakAdminClientSecret;
     @Value("${constants.admin:}")
     private String keycloakAdminUsername;
     @Value("${constants.admin-id:}")
     private String keycloakAdminUserId;
-    @Value("${constants.admin-pw:}")
-    private String keycloakAdminPassword;
     @Value("${constants.admin-group-id:}")
     private String keycloakAdminGroupId;
 
+    public CommonLookupService(CategoriesRepository categoriesRepository,
+                               DepartmentsRepository departmentsRepository,
+                               ProjectsRepository projectsRepository,
+                               CacheManager cacheManager,
+                               @Qualifier("keycloakLookupExecutor") Executor keycloakLookupExecutor,
+                               KeycloakAdminTokenProvider keycloakAdminTokenProvider,
+                               @Qualifier("keycloakRestTemplate") RestTemplate keycloakRestTemplate,
+                               KeycloakUserDirectory keycloakUserDirectory,
+                               KeycloakAdminGroupMembers keycloakAdminGroupMembers) {
+        this.categoriesRepository = categoriesRepository;
+        this.departmentsRepository = departmentsRepository;
+        this.projectsRepository = projectsRepository;
+        this.cacheManager = cacheManager;
+        this.keycloakLookupExecutor = keycloakLookupExecutor;
+        this.keycloakAdminTokenProvider = keycloakAdminTokenProvider;
+        this.keycloakRestTemplate = keycloakRestTemplate;
+        this.keycloakUserDirectory = keycloakUserDirectory;
+        this.keycloakAdminGroupMembers = keycloakAdminGroupMembers;
+    }
+
     public Optional<Categories> findCategoryByName(String name) {
         if (name == null || name.isBlank()) return Optional.empty();
         return Optional.ofNullable(categoriesRepository.findByName(name));
@@ -157,71 +194,74 @@ public class CommonLookupService {
                 .map(UUID::toString);
     }
 
-    @Cacheable(cacheNames = CACHE_KEYCLOAK_USER_INFO_BY_USERNAME,
-        key = "#root.target.normalizedUsernameKey(#username)",
-        condition = "#root.target.isCacheableUsername(#username)",
-        unless = "#root.target.shouldSkipCache(#result)")
     public Optional<KeycloakUserInfo> resolveKeycloakUserInfoByUsername(String username) {
         if (!isCacheableUsername(username)) {
             return Optional.empty();
         }
-        Optional<KeycloakUserInfo> resolved = resolveKeycloakUserInfoByUsernameInternal(username);
-        resolved.ifPresent(this::hydrateIdCache);
-        return resolved;
+        return cachedLookup(CACHE_KEYCLOAK_USER_INFO_BY_USERNAME,
+                normalizedUsernameKey(username),
+                () -> resolveKeycloakUserInfoByUsernameInternal(username),
+                this::hydrateIdCache);
     }
 
     private Optional<KeycloakUserInfo> resolveKeycloakUserInfoByUsernameInternal(String username) {
         if (username == null || username.isBlank()) {
             return Optional.empty();
         }
+        Optional<KeycloakUserInfo> configuredAdmin = configuredAdminUserInfo(username);
+        if (configuredAdmin.isPresent()) {
+            return configuredAdmin;
+        }
+        Optional<KeycloakUserInfo> mirrored = keycloakUserDirectory.findByUsername(username);
+        if (mirrored.isPresent()) {
+            return mirrored;
+        }
+        if (isBlank(keycloakUrl) || isBlank(keycloakRealm) || isBlank(keycloakAdminClientId)) {
+            return Optional.empty();
+        }
+        Optional<KeycloakUserInfo> fetched = fetchKeycloakUserInfoByUsername(username);
+        fetched.ifPresent(keycloakUserDirectory::remember);
+        return fetched;
+    }
+
+    private Optional<KeycloakUserInfo> configuredAdminUserInfo(String username) {
         if (!isBlank(keycloakAdminUsername)
                 && username.equalsIgnoreCase(keycloakAdminUsername)
                 && !isBlank(keycloakAdminUserId)) {
             return parseUuid(keycloakAdminUserId)
                     .map(adminId -> new KeycloakUserInfo(adminId, keycloakAdminUsername, null, keycloakAdminUsername));
         }
-        if (isBlank(keycloakUrl) || isBlank(keycloakRealm) || isBlank(keycloakAdminClientId)) {
-            return Optional.empty();
-        }
-        try {
-            String token = getKeycloakAdminAccessToken().orElse(null);
-            if (token == null) {
-                return Optional.empty();
-            }
+        return Optional.empty();
+    }
 
-            String url = keycloakUrl + "/admin/realms/" + keycloakRealm + "/users?username=" + username + "&exact=true";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + token);
-            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            RestTemplate rt = new RestTemplate();
-            ResponseEntity<List<Map<String, Object>>> resp = rt.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {
-                    }
-            );
-            log.info("status={}, headers={}, body={}", resp.getStatusCode(), resp.getHeaders(), resp.getBody());
-            List<Map<String, Object>> body = resp.getBody();
-            if (!resp.getStatusCode().is2xxSuccessful() || body == null || body.isEmpty()) {
-                return Optional.empty();
-            }
+    private Optional<KeycloakUserInfo> fetchKeycloakUserInfoByUsername(String username) {
+        return userByUsernameFlights.execute(normalizedUsernameKey(username),
+                () -> keycloakAdminTokenProvider.exchangeWithAdminToken(
+                        token -> requestKeycloakUserInfoByUsername(username, token)));
+    }
 
-            Map<String, Object> first = body.get(0);
-            UUID externalId = parseUuid(toStringOrNull(first.get("id"))).orElse(null);
-            String resolvedUsername = toStringOrNull(first.get("username"));
-            String email = toStringOrNull(first.get("email"));
-            if (resolvedUsername == null || resolvedUsername.isBlank()) {
-                resolvedUsername = username;
-            }
-            String displayName = extractDisplayName(first, resolvedUsername);
-            return Optional.of(new KeycloakUserInfo(externalId, resolvedUsername, email, displayName));
-        } catch (Exception ignored) {
+    private Optional<KeycloakUserInfo> requestKeycloakUserInfoByUsername(String username, String token) {
+        String url = keycloakUrl + "/admin/realms/" + keycloakRealm + "/users?username=" + username + "&exact=true";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + token);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<List<Map<String, Object>>> resp = keycloakRestTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                entity,
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {
+                }
+        );
+        log.info("status={}, headers={}, body={}", resp.getStatusCode(), resp.getHeaders(), resp.getBody());
+        List<Map<String, Object>> body = resp.getBody();
+        if (!resp.getStatusCode().is2xxSuccessful() || body == null || body.isEmpty()) {
             return Optional.empty();
         }
+
+        return Optional.of(toUserInfo(body.get(0), null, username));
     }
 
     public KeycloakUserInfo fallbackUserInfo(String username) {
@@ -235,13 +275,41 @@ public class CommonLookupService {
         return new KeycloakUserInfo(null, trimmed, null, trimmed);
     }
 
-    @Cacheable(cacheNames = CACHE_KEYCLOAK_USER_INFO_BY_ID,
-        key = "#userId",
-        condition = "#userId != null",
-        unless = "#root.target.shouldSkipCache(#result)")
     public Optional<KeycloakUserInfo> resolveKeycloakUserInfoById(UUID userId) {
-        Optional<KeycloakUserInfo> resolved = resolveKeycloakUserInfoByIdInternal(userId);
-        resolved.ifPresent(this::hydrateUsernameCache);
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return cachedLookup(CACHE_KEYCLOAK_USER_INFO_BY_ID,
+                userId,
+                () -> resolveKeycloakUserInfoByIdInternal(userId),
+                this::hydrateUsernameCache);
+    }
+
+    /**
+     * 단건 조회 캐시. 값은 배치 조회와 같이 항상 Optional로 보관한다.
+     * - 찾지 못한 사용자(Optional.empty)도 넣어 negativeTtl 동안 다시 조회하지 않는다
+     * - Keycloak 장애/시간 초과는 결과를 알 수 없으므로 넣지 않고 이번 호출만 빈 결과로 돌려준다
+     */
+    private Optional<KeycloakUserInfo> cachedLookup(String cacheName,
+                                                    Object key,
+                                                    Supplier<Optional<KeycloakUserInfo>> loader,
+                                                    Consumer<KeycloakUserInfo> hydrateOther) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Cache.ValueWrapper wrapper = cache != null ? cache.get(key) : null;
+        if (wrapper != null) {
+            return Optional.ofNullable(unwrapCached(wrapper));
+        }
+        Optional<KeycloakUserInfo> resolved;
+        try {
+            resolved = loader.get();
+        } catch (RuntimeException ex) {
+            log.warn("Keycloak user lookup failed for {}: {}", key, ex.getMessage());
+            return Optional.empty();
+        }
+        if (cache != null) {
+            cache.put(key, resolved);
+        }
+        resolved.ifPresent(hydrateOther);
         return resolved;
     }
 
@@ -249,48 +317,198 @@ public class CommonLookupService {
         if (userId == null) {
             return Optional.empty();
         }
+        Optional<KeycloakUserInfo> mirrored = keycloakUserDirectory.findById(userId);
+        if (mirrored.isPresent()) {
+            return mirrored;
+        }
         if (isBlank(keycloakUrl) || isBlank(keycloakRealm)) {
             return Optional.empty();
         }
-        String token = getKeycloakAdminAccessToken().orElse(null);
-        if (token == null) {
+        Optional<KeycloakUserInfo> fetched = fetchKeycloakUserInfoById(userId);
+        fetched.ifPresent(keycloakUserDirectory::remember);
+        return fetched;
+    }
+
+    private Optional<KeycloakUserInfo> fetchKeycloakUserInfoById(UUID userId) {
+        return userByIdFlights.execute(userId,
+                () -> keycloakAdminTokenProvider.exchangeWithAdminToken(
+                        token -> requestKeycloakUserInfoByIdOrEmpty(userId, token)));
+    }
+
+    private Optional<KeycloakUserInfo> requestKeycloakUserInfoById(UUID userId, String token) {
+        String url = keycloakUrl + "/admin/realms/" + keycloakRealm + "/users/" + userId;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + token);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<Map<String, Object>> resp = keycloakRestTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                entity,
+                new ParameterizedTypeReference<Map<String, Object>>() {
+                }
+        );
+        Map<String, Object> body = resp.getBody();
+        if (!resp.getStatusCode().is2xxSuccessful() || body == null) {
             return Optional.empty();
         }
+
+        return Optional.of(toUserInfo(body, userId, null));
+    }
+
+    private Optional<KeycloakUserInfo> requestKeycloakUserInfoByIdOrEmpty(UUID userId, String token) {
         try {
-            String url = keycloakUrl + "/admin/realms/" + keycloakRealm + "/users/" + userId;
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + token);
-            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            RestTemplate rt = new RestTemplate();
-            ResponseEntity<Map<String, Object>> resp = rt.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<Map<String, Object>>() {
-                    }
-            );
-            Map<String, Object> body = resp.getBody();
-            if (!resp.getStatusCode().is2xxSuccessful() || body == null) {
-                return Optional.empty();
+            return requestKeycloakUserInfoById(userId, token);
+        } catch (HttpClientErrorException.NotFound notFound) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Admin API 사용자 표현(UserRepresentation)을 KeycloakUserInfo로 변환합니다.
+     * id/username이 비어 있으면 fallback 값을 사용합니다.
+     */
+    static KeycloakUserInfo toUserInfo(Map<String, Object> representation, UUID fallbackId, String fallbackUsername) {
+        if (representation == null) {
+            return null;
+        }
+        UUID externalId = parseUuid(toStringOrNull(representation.get("id"))).orElse(fallbackId);
+        String username = toStringOrNull(representation.get("username"));
+        if (username == null) {
+            username = fallbackUsername;
+        }
+        String email = toStringOrNull(representation.get("email"));
+        String displayName = extractDisplayName(representation, username);
+        return new KeycloakUserInfo(externalId, username, email, displayName);
+    }
+
+    /**
+     * 여러 사용자 UUID를 한 번에 조회합니다.
+     * - 중복을 제거하고 캐시나 로컬 미러(KeycloakUserDirectory)에 있는 사용자는 바로 사용
+     * - 나머지는 캐시된 관리자 토큰으로 keycloakLookupExecutor에서 병렬 조회(스레드 수만큼만 동시 호출)
+     * - 조회에 실패한 UUID는 결과에 포함되지 않습니다.
+     */
+    public Map<UUID, KeycloakUserInfo> resolveUsersByIds(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> distinct = new LinkedHashSet<>();
+        userIds.stream().filter(Objects::nonNull).forEach(distinct::add);
+        return resolveBatch(distinct,
+                CACHE_KEYCLOAK_USER_INFO_BY_ID,
+                id -> id,
+                keycloakUserDirectory::findById,
+                this::fetchKeycloakUserInfoById,
+                this::hydrateUsernameCache);
+    }
+
+    /**
+     * 여러 username을 한 번에 조회합니다. 결과 키는 normalizedUsernameKey 기준입니다.
+     */
+    public Map<String, KeycloakUserInfo> resolveUsersByUsernames(Collection<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, KeycloakUserInfo> result = new HashMap<>();
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String username : usernames) {
+            if (!isCacheableUsername(username)) {
+                continue;
+            }
+            String trimmed = username.trim();
+            Optional<KeycloakUserInfo> configuredAdmin = configuredAdminUserInfo(trimmed);
+            if (configuredAdmin.isPresent()) {
+                result.put(normalizedUsernameKey(trimmed), configuredAdmin.get());
+            } else {
+                distinct.add(trimmed);
             }
+        }
+        Map<String, KeycloakUserInfo> fetched = resolveBatch(distinct,
+                CACHE_KEYCLOAK_USER_INFO_BY_USERNAME,
+                this::normalizedUsernameKey,
+                keycloakUserDirectory::findByUsername,
+                this::fetchKeycloakUserInfoByUsername,
+                this::hydrateIdCache);
+        fetched.forEach((username, info) -> result.put(normalizedUsernameKey(username), info));
+        return result;
+    }
 
-            UUID externalId = parseUuid(toStringOrNull(body.get("id"))).orElse(userId);
-            String username = toStringOrNull(body.get("username"));
-            String email = toStringOrNull(body.get("email"));
-            String displayName = extractDisplayName(body, username);
-            return Optional.of(new KeycloakUserInfo(externalId, username, email, displayName));
-        } catch (Exception ignored) {
-            return Optional.empty();
+    private <K> Map<K, KeycloakUserInfo> resolveBatch(Set<K> keys,
+                                                      String cacheName,
+                                                      Function<K, Object> cacheKey,
+                                                      Function<K, Optional<KeycloakUserInfo>> mirrorLookup,
+                                                      Function<K, Optional<KeycloakUserInfo>> fetcher,
+                                                      Consumer<KeycloakUserInfo> hydrateOther) {
+        Map<K, KeycloakUserInfo> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        List<K> misses = new ArrayList<>();
+        for (K key : keys) {
+            Cache.ValueWrapper wrapper = cache != null ? cache.get(cacheKey.apply(key)) : null;
+            KeycloakUserInfo cached = unwrapCached(wrapper);
+            if (cached == null) {
+                cached = mirrorLookup.apply(key).orElse(null);
+            }
+            if (cached != null) {
+                result.put(key, cached);
+            } else if (wrapper == null) {
+                // wrapper가 있는데 값이 비어 있으면 최근에 찾지 못한 사용자(negative cache)이므로 다시 조회하지 않는다.
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty() || isBlank(keycloakUrl) || isBlank(keycloakRealm)) {
+            return result;
+        }
+        // 병렬 조회 전에 토큰을 한 번 확보해 두면 각 작업은 캐시된 토큰을 그대로 쓴다.
+        if (keycloakAdminTokenProvider.getToken().isEmpty()) {
+            return result;
+        }
+
+        Map<K, CompletableFuture<Optional<KeycloakUserInfo>>> futures = new LinkedHashMap<>();
+        for (K key : misses) {
+            futures.put(key, CompletableFuture
+                    .supplyAsync(() -> fetcher.apply(key), keycloakLookupExecutor)
+                    .completeOnTimeout(null, BATCH_LOOKUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .exceptionally(ex -> null));
+        }
+        futures.forEach((key, future) -> {
+            Optional<KeycloakUserInfo> fetched = future.join();
+            if (fetched == null) {
+                // 시간 초과/예외는 결과를 알 수 없으므로 캐시하지 않는다.
+                return;
+            }
+            if (cache != null) {
+                cache.put(cacheKey.apply(key), fetched);
+            }
+            fetched.ifPresent(info -> {
+                result.put(key, info);
+                hydrateOther.accept(info);
+                keycloakUserDirectory.remember(info);
+            });
+        });
+        return result;
+    }
+
+    private KeycloakUserInfo unwrapCached(Cache.ValueWrapper wrapper) {
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value instanceof Optional<?> optional) {
+            value = optional.orElse(null);
         }
+        return value instanceof KeycloakUserInfo info ? info : null;
     }
 
     /**
      * 주어진 사용자가 Keycloak Admin 그룹에 속하는지 확인합니다.
      * - admin 기본 계정(username)이면 바로 true
      * - 그룹 ID 설정 및 Keycloak Admin API가 정상 동작할 경우 그룹 소속 여부를 조회
+     * - 메모리에 둔 그룹 멤버 집합(KeycloakAdminGroupMembers)을 먼저 보고, 아직 없으면 사용자별 그룹 API로 확인
      */
     public boolean isAdminUser(String username) {
         if (username == null || username.isBlank()) {
@@ -299,6 +517,10 @@ public class CommonLookupService {
         if (isBlank(keycloakAdminGroupId)) {
             return false;
         }
+        Optional<Boolean> member = keycloakAdminGroupMembers.isMember(username);
+        if (member.isPresent()) {
+            return member.get();
+        }
         var userInfo = resolveKeycloakUserInfoByUsername(username).orElse(null);
         if (userInfo == null || userInfo.id() == null) {
             return false;
@@ -306,53 +528,6 @@ public class CommonLookupService {
         return isUserInGroup(userInfo.id().toString(), keycloakAdminGroupId);
     }
 
-    private Optional<String> getKeycloakAdminAccessToken() {
-        if (isBlank(keycloakUrl) || isBlank(keycloakRealm)) {
-            return Optional.empty();
-        }
-        if (isBlank(keycloakAdminClientId)) {
-            return Optional.empty();
-        }
-        try {
-            String url = keycloakUrl + "/realms/" + keycloakRealm + "/protocol/openid-connect/token";
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
-            boolean usingPasswordGrant = !isBlank(keycloakAdminUsername) && !isBlank(keycloakAdminPassword);
-            if (usingPasswordGrant) {
-                form.add("grant_type", "password");
-                form.add("client_id", keycloakAdminClientId);
-                form.add("username", keycloakAdminUsername);
-                form.add("password", keycloakAdminPassword);
-            } else {
-                if (isBlank(keycloakAdminClientSecret)) {
-                    return Optional.empty();
-                }
-                form.add("grant_type", "client_credentials");
-                form.add("client_id", keycloakAdminClientId);
-                form.add("client_secret", keycloakAdminClientSecret);
-            }
-
-            HttpEntity<MultiValueMap<String, String>> req = new HttpEntity<>(form, headers);
-            RestTemplate rt = new RestTemplate();
-            ResponseEntity<Map<String,Object>> resp = rt.exchange(
-                    url,
-                    HttpMethod.POST,
-                    req,
-                    new ParameterizedTypeReference<Map<String,Object>>() {}
-            );
-            Map<String,Object> body = resp.getBody();
-            if (!resp.getStatusCode().is2xxSuccessful() || body == null) {
-                return Optional.empty();
-            }
-            Object token = body.get("access_token");
-            return Optional.ofNullable(token).map(Object::toString).filter(s -> !s.isBlank());
-        } catch (Exception ignored) {
-            return Optional.empty();
-        }
-    }
-
     private boolean isUserInGroup(String userId, String groupId) {
         if (isBlank(userId) || isBlank(groupId)) {
             return false;
@@ -360,44 +535,41 @@ public class CommonLookupService {
         if (isBlank(keycloakUrl) || isBlank(keycloakRealm)) {
             return false;
         }
-        String token = getKeycloakAdminAccessToken().orElse(null);
-        if (token == null) {
-            return false;
-        }
         try {
-            String url = keycloakUrl + "/admin/realms/" + keycloakRealm + "/users/" + userId + "/groups";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + token);
-            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-            RestTemplate rt = new RestTemplate();
-            ResponseEntity<List<Map<String, Object>>> resp = rt.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
-            List<Map<String, Object>> body = resp.getBody();
-            if (!resp.getStatusCode().is2xxSuccessful() || body == null) {
-                return false;
-            }
-            boolean matched = body.stream()
-                    .map(group -> group.get("id"))
-                    .filter(id -> id != null)
-                    .anyMatch(id -> groupId.equals(id.toString()));
-            return matched;
-        } catch (Exception ignored) {
+            return keycloakAdminTokenProvider.exchangeWithAdminToken(
+                    token -> requestUserInGroup(userId, groupId, token)).orElse(false);
+        } catch (RuntimeException ex) {
+            log.warn("Keycloak group membership lookup failed for {}: {}", userId, ex.getMessage());
             return false;
         }
     }
 
-    private boolean isBlank(String s) {
-        return s == null || s.isBlank();
+    private Optional<Boolean> requestUserInGroup(String userId, String groupId, String token) {
+        String url = keycloakUrl + "/admin/realms/" + keycloakRealm + "/users/" + userId + "/groups";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + token);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+        ResponseEntity<List<Map<String, Object>>> resp = keycloakRestTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                entity,
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {}
+        );
+        List<Map<String, Object>> body = resp.getBody();
+        if (!resp.getStatusCode().is2xxSuccessful() || body == null) {
+            return Optional.of(false);
+        }
+        boolean matched = body.stream()
+                .map(group -> group.get("id"))
+                .filter(id -> id != null)
+                .anyMatch(id -> groupId.equals(id.toString()));
+        return Optional.of(matched);
     }
 
-    private Optional<UUID> parseUuid(String value) {
+    private static Optional<UUID> parseUuid(String value) {
         if (value == null || value.isBlank()) {
             return Optional.empty();
         }
@@ -408,7 +580,7 @@ public class CommonLookupService {
         }
     }
 
-    private String toStringOrNull(Object value) {
+    private static String toStringOrNull(Object value) {
         if (value == null) {
             return null;
         }
@@ -416,7 +588,7 @@ public class CommonLookupService {
         return str.isBlank() ? null : str;
     }
 
-    private String extractDisplayName(Map<String, Object> source, String fallback) {
+    private static String extractDisplayName(Map<String, Object> source, String fallback) {
         if (source == null) {
             return fallback;
         }
@@ -438,7 +610,7 @@ public class CommonLookupService {
         return isBlank(fallback) ? null : fallback;
     }
 
-    private String combineNameParts(String lastName, String firstName) {
+    private static String combineNameParts(String lastName, String firstName) {
         StringBuilder builder = new StringBuilder();
         if (isNotBlank(lastName)) {
             builder.append(lastName);
@@ -449,7 +621,7 @@ public class CommonLookupService {
         return builder.length() > 0 ? builder.toString() : null;
     }
 
-    private String extractAttributeValue(Object attribute) {
+    private static String extractAttributeValue(Object attribute) {
         if (attribute == null) {
             return null;
         }
@@ -459,7 +631,7 @@ public class CommonLookupService {
         return toStringOrNull(attribute);
     }
 
-    private boolean isNotBlank(String value) {
+    private static boolean isNotBlank(String value) {
         return value != null && !value.isBlank();
     }
 
@@ -468,18 +640,22 @@ public class CommonLookupService {
     }
 
     public String normalizedUsernameKey(String username) {
-        return username == null ? null : username.trim().toLowerCase(Locale.ROOT);
+        return KeycloakAdminTokenProvider.usernameKey(username);
     }
 
-    @SuppressWarnings("unused")
-    public boolean shouldSkipCache(Object result) {
-        if (result == null) {
-            return true;
-        }
-        if (result instanceof Optional<?> optional) {
-            return optional.isEmpty();
+    /**
+     * 캐시 refreshAfter 경과 시 백그라운드 갱신용. 캐시를 거치지 않고 미러/Admin API에서 다시 읽습니다.
+     * Keycloak 장애는 예외로 던지며, 이 경우 Caffeine이 기존 값을 그대로 둡니다.
+     */
+    public Optional<KeycloakUserInfo> reloadKeycloakUserInfoById(UUID userId) {
+        return resolveKeycloakUserInfoByIdInternal(userId);
+    }
+
+    public Optional<KeycloakUserInfo> reloadKeycloakUserInfoByUsername(String username) {
+        if (!isCacheableUsername(username)) {
+            return Optional.empty();
         }
-        return false;
+        return resolveKeycloakUserInfoByUsernameInternal(username);
     }
 
     private void hydrateIdCache(KeycloakUserInfo userInfo) {
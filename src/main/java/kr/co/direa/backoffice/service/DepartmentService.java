@@ -5,6 +5,7 @@ import kr.co.direa.backoffice.exception.CustomException;
 import kr.co.direa.backoffice.exception.code.CustomErrorCode;
 import kr.co.direa.backoffice.repository.DepartmentsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DepartmentService {
     private final DepartmentsRepository departmentsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<DepartmentDto> findAll() {
         return departmentsRepository.findAll()
@@ -58,6 +60,7 @@ public class DepartmentService {
                     .build();
         }
         var saved = departmentsRepository.save(entity);
+        eventPublisher.publishEvent(DeviceChangedEvent.all());
         return new DepartmentDto(saved);
     }
 
@@ -0,0 +1,188 @@
+package kr.co.direa.backoffice.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import kr.co.direa.backoffice.domain.Categories;
+import kr.co.direa.backoffice.domain.CategoryAvailabilityCount;
+import kr.co.direa.backoffice.domain.DeviceAvailabilityState;
+import kr.co.direa.backoffice.domain.DeviceLatestApproval;
+import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.repository.CategoryAvailabilityCountRepository;
+import kr.co.direa.backoffice.repository.DeviceAvailabilityStateRepository;
+import kr.co.direa.backoffice.repository.DeviceCategorySummary;
+import kr.co.direa.backoffice.repository.DevicesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리별 대여 가능 장비 수 카운터.
+ * - 장비 변경 트랜잭션의 커밋 직전에 장비별 상태를 비교해 증감량만 upsert로 반영
+ * - 주기적으로 전체를 다시 계산해 동시 변경 등으로 생긴 오차를 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeviceAvailabilityCounterService {
+    private final DevicesRepository devicesRepository;
+    private final DeviceLatestApprovalService deviceLatestApprovalService;
+    private final DeviceAvailabilityStateRepository deviceAvailabilityStateRepository;
+    private final CategoryAvailabilityCountRepository categoryAvailabilityCountRepository;
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> findCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (CategoryAvailabilityCount count : categoryAvailabilityCountRepository.findByAvailableCountGreaterThan(0L)) {
+            counts.put(count.getCategoryName(), count.getAvailableCount());
+        }
+        return counts;
+    }
+
+    /**
+     * 프로젝트/부서 이름 변경(allDevices)은 카테고리나 대여 가능 여부를 바꾸지 않으므로 무시한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onDevicesChanged(DeviceChangedEvent event) {
+        if (event == null || event.isEmpty() || event.allDevices()) {
+            return;
+        }
+        Set<String> deviceIds = event.deviceIds();
+
+        Map<String, Devices> devices = devicesRepository.findAllById(deviceIds).stream()
+                .collect(Collectors.toMap(Devices::getId, Function.identity()));
+        Map<String, DeviceLatestApproval> latestApprovals = deviceLatestApprovalService.findByDeviceIds(deviceIds);
+        Map<String, DeviceAvailabilityState> states = deviceAvailabilityStateRepository.findByDeviceIdIn(deviceIds).stream()
+                .collect(Collectors.toMap(DeviceAvailabilityState::getDeviceId, Function.identity()));
+
+        Map<String, Long> deltas = new HashMap<>();
+        List<DeviceAvailabilityState> changed = new ArrayList<>();
+        for (String deviceId : deviceIds) {
+            Devices device = devices.get(deviceId);
+            DeviceAvailabilityState state = states.getOrDefault(deviceId, DeviceAvailabilityState.of(deviceId));
+            String before = state.countedCategory();
+
+            String categoryName = device != null ? resolveCategoryName(device.getCategoryId()) : null;
+            boolean available = device != null
+                    && DeviceLatestApproval.allowsRental(device.getIsUsable(), latestApprovals.get(deviceId));
+            if (!state.update(categoryName, available)) {
+                continue;
+            }
+            changed.add(state);
+
+            String after = state.countedCategory();
+            if (before != null) {
+                deltas.merge(before, -1L, Long::sum);
+            }
+            if (after != null) {
+                deltas.merge(after, 1L, Long::sum);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            deviceAvailabilityStateRepository.saveAll(changed);
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * 장비 전체 기준으로 상태/카운터를 다시 계산한다.
+     * 기동 시에는 조회용 테이블 백필(ProjectionBackfillJob) 이후에 실행된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.devices.available-counts.reconcile-interval:PT10M}",
+            initialDelayString = "${app.devices.available-counts.reconcile-interval:PT10M}")
+    @Transactional
+    public void reconcile() {
+        List<DeviceCategorySummary> summaries = devicesRepository.findCategorySummaries();
+        Set<String> deviceIds = summaries.stream()
+                .map(DeviceCategorySummary::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, DeviceLatestApproval> latestApprovals = deviceLatestApprovalService.findByDeviceIds(deviceIds);
+        Map<String, DeviceAvailabilityState> states = deviceAvailabilityStateRepository.findAll().stream()
+                .collect(Collectors.toMap(DeviceAvailabilityState::getDeviceId, Function.identity()));
+
+        Map<String, Long> expected = new HashMap<>();
+        List<DeviceAvailabilityState> changed = new ArrayList<>();
+        for (DeviceCategorySummary summary : summaries) {
+            if (summary == null || summary.getId() == null) {
+                continue;
+            }
+            DeviceAvailabilityState state = states.getOrDefault(summary.getId(), DeviceAvailabilityState.of(summary.getId()));
+            boolean available = DeviceLatestApproval.allowsRental(summary.getIsUsable(), latestApprovals.get(summary.getId()));
+            if (state.update(normalizeCategoryName(summary.getCategoryName()), available)) {
+                changed.add(state);
+            }
+            String counted = state.countedCategory();
+            if (counted != null) {
+                expected.merge(counted, 1L, Long::sum);
+            }
+        }
+        deviceAvailabilityStateRepository.saveAll(changed);
+
+        List<DeviceAvailabilityState> orphans = states.values().stream()
+                .filter(state -> !deviceIds.contains(state.getDeviceId()))
+                .toList();
+        deviceAvailabilityStateRepository.deleteAll(orphans);
+
+        // 절대값으로 덮어쓰면 그사이 커밋된 증감이 사라지므로, 같은 스냅샷에서 본 값과의 차이만 upsert로 더한다.
+        Map<String, Long> observed = categoryAvailabilityCountRepository.findAll().stream()
+                .collect(Collectors.toMap(CategoryAvailabilityCount::getCategoryName, CategoryAvailabilityCount::getAvailableCount));
+        Set<String> categoryNames = new HashSet<>(observed.keySet());
+        categoryNames.addAll(expected.keySet());
+
+        Map<String, Long> drifted = new HashMap<>();
+        for (String categoryName : categoryNames) {
+            long delta = expected.getOrDefault(categoryName, 0L) - observed.getOrDefault(categoryName, 0L);
+            if (delta != 0L) {
+                drifted.put(categoryName, delta);
+            }
+        }
+        applyDeltas(drifted);
+
+        if (!changed.isEmpty() || !orphans.isEmpty() || !drifted.isEmpty()) {
+            log.info("Available device counters reconciled: devices={}, removed={}, categories={}",
+                    changed.size(), orphans.size(), drifted.size());
+        }
+    }
+
+    /**
+     * 카테고리별로 upsert 한 문장씩 반영한다.
+     * 여러 카테고리를 건드리는 트랜잭션끼리 교착되지 않도록 항상 카테고리 이름 순서로 행 잠금을 잡는다.
+     */
+    private void applyDeltas(Map<String, Long> deltas) {
+        new TreeMap<>(deltas).forEach((categoryName, delta) -> {
+            if (delta != 0L) {
+                categoryAvailabilityCountRepository.upsertDelta(categoryName, delta);
+            }
+        });
+    }
+
+    private String resolveCategoryName(Categories category) {
+        return category != null ? normalizeCategoryName(category.getName()) : null;
+    }
+
+    private String normalizeCategoryName(String raw) {
+        return Optional.ofNullable(raw)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .orElse(null);
+    }
+}
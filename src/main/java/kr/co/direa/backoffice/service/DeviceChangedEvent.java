@@ -0,0 +1,37 @@
+package kr.co.direa.backoffice.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 장비 상태/속성 변경 이벤트.
+ * - allDevices가 true이면 카테고리/프로젝트/부서 이름 변경처럼 전체 장비가 영향을 받는 경우
+ */
+public record DeviceChangedEvent(Set<String> deviceIds, boolean allDevices) {
+
+    public DeviceChangedEvent {
+        deviceIds = deviceIds == null ? Set.of() : Set.copyOf(deviceIds);
+    }
+
+    public static DeviceChangedEvent of(Collection<String> deviceIds) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (deviceIds != null) {
+            deviceIds.stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .forEach(normalized::add);
+        }
+        return new DeviceChangedEvent(normalized, false);
+    }
+
+    public static DeviceChangedEvent all() {
+        return new DeviceChangedEvent(Set.of(), true);
+    }
+
+    public boolean isEmpty() {
+        return !allDevices && deviceIds.isEmpty();
+    }
+}
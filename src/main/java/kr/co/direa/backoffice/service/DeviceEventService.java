@@ -0,0 +1,231 @@
+package kr.co.direa.backoffice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import kr.co.direa.backoffice.domain.ApprovalRequest;
+import kr.co.direa.backoffice.domain.DeviceApprovalDetail;
+import kr.co.direa.backoffice.domain.DeviceEvent;
+import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.domain.Projects;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.DeviceApprovalAction;
+import kr.co.direa.backoffice.repository.ApprovalRequestRepository;
+import kr.co.direa.backoffice.repository.DeviceApprovalDetailRepository;
+import kr.co.direa.backoffice.repository.DeviceEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * device_events 타임라인 관리.
+ * - 결재가 승인 상태로 커밋되기 직전(BEFORE_COMMIT)에 장비별 이벤트를 같은 트랜잭션에서 추가
+ * - 관리자 처리(DeviceService)는 처리자와 함께 즉시 추가하며, 리스너는 이미 있는 (장비, 결재)를 건너뛴다
+ * - 신청자 표시 이름은 기록 시점에 한 번만 풀어 둔다
+ * - 발생 시각은 실시간/백필 모두 완료 시각 → 수정 시각 → 생성 시각 순으로 정한다
+ * - 이력 조회는 이 테이블만 읽는다
+ */
+@Service
+@RequiredArgsConstructor
+public class DeviceEventService {
+    private final DeviceEventRepository deviceEventRepository;
+    private final ApprovalRequestRepository approvalRequestRepository;
+    private final DeviceApprovalDetailRepository deviceApprovalDetailRepository;
+    private final CommonLookupService commonLookupService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onApprovalChanged(ApprovalChangedEvent event) {
+        if (event == null || event.approvalId() == null) {
+            return;
+        }
+        approvalRequestRepository.findById(event.approvalId())
+                .ifPresent(request -> append(request, null));
+    }
+
+    /**
+     * 승인된 장비 결재를 장비별 이벤트로 남긴다. 같은 (장비, 결재) 이벤트가 이미 있으면 건너뛴다.
+     */
+    @Transactional
+    public void append(ApprovalRequest request, String operatorUsername) {
+        if (request == null || request.getId() == null || request.getStatus() != ApprovalStatus.APPROVED) {
+            return;
+        }
+        if (!(request.getDetail() instanceof DeviceApprovalDetail detail)) {
+            return;
+        }
+
+        String actorName = resolveActorName(request.getRequesterName(),
+                request.getRequesterExternalId(),
+                request.getRequesterEmail());
+        String reason = Optional.ofNullable(request.getReason()).orElse(detail.getMemo());
+        String requestedProject = Optional.ofNullable(detail.getRequestedProject()).map(Projects::getName).orElse(null);
+        LocalDateTime occurredAt = resolveOccurredAt(request.getCompletedAt(),
+                request.getModifiedDate(),
+                request.getCreatedDate());
+
+        List<DeviceEvent> events = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Devices device : detail.resolveDevices()) {
+            if (device == null || device.getId() == null || !seen.add(device.getId())) {
+                continue;
+            }
+            if (deviceEventRepository.existsByDeviceIdAndRequestId(device.getId(), request.getId())) {
+                continue;
+            }
+            String projectName = requestedProject != null
+                    ? requestedProject
+                    : Optional.ofNullable(device.getProjectId()).map(Projects::getName).orElse(null);
+            events.add(DeviceEvent.of(device.getId(),
+                    request.getId(),
+                    detail.getAction(),
+                    actorName,
+                    operatorUsername,
+                    reason,
+                    projectName,
+                    occurredAt));
+        }
+        // 같은 트랜잭션의 이력 조회(네이티브 쿼리)에 바로 보이도록 flush한다.
+        deviceEventRepository.saveAllAndFlush(events);
+    }
+
+    /**
+     * 기존 결재 이력에서 아직 타임라인에 없는 (장비, 결재) 이벤트를 채운다.
+     * 과거 결재에는 처리자 정보가 따로 남아 있지 않으므로 비워 둔다(사유 문구에는 그대로 남아 있음).
+     */
+    @Transactional
+    public int backfill(Collection<String> deviceIds) {
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return 0;
+        }
+        Set<String> existingKeys = deviceEventRepository.findKeysByDeviceIdIn(deviceIds).stream()
+                .map(key -> key.getDeviceId() + ":" + key.getRequestId())
+                .collect(Collectors.toSet());
+
+        List<DeviceApprovalDetailRepository.DeviceHistoryRow> rows = deviceApprovalDetailRepository
+                .findHistoryRowsByDeviceIds(deviceIds, ApprovalStatus.APPROVED.name(), Integer.MAX_VALUE);
+        Map<Long, ApprovalRequest> unnamedRequests = loadUnnamedRequests(rows);
+
+        List<DeviceEvent> inserts = new ArrayList<>();
+        for (DeviceApprovalDetailRepository.DeviceHistoryRow row : rows) {
+            if (row == null || row.getDeviceId() == null || row.getRequestId() == null) {
+                continue;
+            }
+            if (!existingKeys.add(row.getDeviceId() + ":" + row.getRequestId())) {
+                continue;
+            }
+            ApprovalRequest unnamed = unnamedRequests.get(row.getRequestId());
+            String actorName = resolveActorName(row.getRequesterName(),
+                    unnamed != null ? unnamed.getRequesterExternalId() : null,
+                    unnamed != null ? unnamed.getRequesterEmail() : null);
+            LocalDateTime occurredAt = resolveOccurredAt(row.getCompletedAt(),
+                    row.getModifiedDate(),
+                    row.getCreatedDate());
+            inserts.add(DeviceEvent.of(row.getDeviceId(),
+                    row.getRequestId(),
+                    parseAction(row.getAction()),
+                    actorName,
+                    null,
+                    Optional.ofNullable(row.getReason()).orElse(row.getMemo()),
+                    row.getProjectName(),
+                    occurredAt));
+        }
+        deviceEventRepository.saveAll(inserts);
+        return inserts.size();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, List<DeviceEvent>> findRecentByDeviceIds(Collection<String> deviceIds, int limit) {
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<DeviceEvent>> grouped = new LinkedHashMap<>();
+        for (DeviceEvent event : deviceEventRepository.findRecentByDeviceIds(deviceIds, limit)) {
+            grouped.computeIfAbsent(event.getDeviceId(), id -> new ArrayList<>()).add(event);
+        }
+        return grouped;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeviceEvent> findPageBefore(String deviceId, LocalDateTime beforeOccurredAt, long beforeId, int limit) {
+        return deviceEventRepository.findPageBefore(deviceId, beforeOccurredAt, beforeId, PageRequest.of(0, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> countByDeviceIds(Collection<String> deviceIds) {
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> counts = new HashMap<>();
+        for (DeviceEventRepository.DeviceEventCount row : deviceEventRepository.countByDeviceIds(deviceIds)) {
+            counts.put(row.getDeviceId(), row.getEventCount());
+        }
+        return counts;
+    }
+
+    private Map<Long, ApprovalRequest> loadUnnamedRequests(List<DeviceApprovalDetailRepository.DeviceHistoryRow> rows) {
+        Set<Long> requestIds = rows.stream()
+                .filter(row -> row.getRequesterName() == null || row.getRequesterName().isBlank())
+                .map(DeviceApprovalDetailRepository.DeviceHistoryRow::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return approvalRequestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(ApprovalRequest::getId, Function.identity(), (left, right) -> left));
+    }
+
+    private String resolveActorName(String requesterName, UUID requesterExternalId, String requesterEmail) {
+        if (requesterName != null && !requesterName.isBlank()) {
+            return requesterName;
+        }
+        if (requesterExternalId != null) {
+            return commonLookupService.resolveKeycloakUserInfoById(requesterExternalId)
+                    .map(info -> info.displayName() != null && !info.displayName().isBlank()
+                            ? info.displayName()
+                            : info.username())
+                    .filter(name -> name != null && !name.isBlank())
+                    .orElse(null);
+        }
+        if (requesterEmail != null && !requesterEmail.isBlank()) {
+            return requesterEmail;
+        }
+        return null;
+    }
+
+    private LocalDateTime resolveOccurredAt(LocalDateTime completedAt,
+                                            LocalDateTime modifiedDate,
+                                            LocalDateTime createdDate) {
+        return Optional.ofNullable(completedAt)
+                .or(() -> Optional.ofNullable(modifiedDate))
+                .or(() -> Optional.ofNullable(createdDate))
+                .orElseGet(LocalDateTime::now);
+    }
+
+    private DeviceApprovalAction parseAction(String action) {
+        if (action == null || action.isBlank()) {
+            return null;
+        }
+        try {
+            return DeviceApprovalAction.valueOf(action.trim());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
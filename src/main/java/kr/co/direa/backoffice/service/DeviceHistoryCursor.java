@@ -0,0 +1,50 @@
+package kr.co.direa.backoffice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import kr.co.direa.backoffice.exception.CustomException;
+import kr.co.direa.backoffice.exception.code.CustomErrorCode;
+
+/**
+ * 장비 이력 커서. 마지막으로 내려준 타임라인 이벤트의 (발생 시각, 이벤트 id) 이후부터 이어서 조회한다.
+ */
+record DeviceHistoryCursor(String deviceId, LocalDateTime occurredAt, long eventId) {
+    private static final String VERSION = "h2";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    String encode() {
+        String raw = String.join(".",
+                VERSION,
+                encodePart(deviceId),
+                encodePart(occurredAt.toString()),
+                Long.toString(eventId));
+        return encodePart(raw);
+    }
+
+    static DeviceHistoryCursor decode(String token) {
+        try {
+            String[] parts = decodePart(token).split("\\.", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new CustomException(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID);
+            }
+            return new DeviceHistoryCursor(
+                    decodePart(parts[1]),
+                    LocalDateTime.parse(decodePart(parts[2])),
+                    Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new CustomException(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID);
+        }
+    }
+
+    private static String encodePart(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+}
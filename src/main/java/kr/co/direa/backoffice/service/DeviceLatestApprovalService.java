@@ -0,0 +1,212 @@
+package kr.co.direa.backoffice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import kr.co.direa.backoffice.domain.ApprovalRequest;
+import kr.co.direa.backoffice.domain.DeviceApprovalDetail;
+import kr.co.direa.backoffice.domain.DeviceApprovalItem;
+import kr.co.direa.backoffice.domain.DeviceLatestApproval;
+import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.DeviceApprovalAction;
+import kr.co.direa.backoffice.repository.DeviceApprovalDetailRepository;
+import kr.co.direa.backoffice.repository.DeviceLatestApprovalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * device_latest_approval 테이블 관리.
+ * - 결재 생성/상태 변경 시 같은 트랜잭션에서 장비별 최신 결재 행을 갱신(ApprovalChangedEvent 발행은 호출 측 책임)
+ * - 기존 ROW_NUMBER 스냅샷 쿼리는 최초 백필 용도로만 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class DeviceLatestApprovalService {
+    private static final int FULL_SCAN_THRESHOLD = 1000;
+
+    private final DeviceLatestApprovalRepository deviceLatestApprovalRepository;
+    private final DeviceApprovalDetailRepository deviceApprovalDetailRepository;
+
+    @Transactional
+    public void record(ApprovalRequest request) {
+        if (request == null) {
+            return;
+        }
+        if (!(request.getDetail() instanceof DeviceApprovalDetail detail)) {
+            return;
+        }
+        List<String> deviceIds = detail.resolveDevices().stream()
+                .filter(Objects::nonNull)
+                .map(Devices::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (deviceIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, DeviceLatestApproval> existing = deviceLatestApprovalRepository.findAllById(deviceIds).stream()
+                .collect(Collectors.toMap(DeviceLatestApproval::getDeviceId, Function.identity()));
+
+        List<DeviceLatestApproval> changed = new ArrayList<>();
+        for (String deviceId : deviceIds) {
+            DeviceLatestApproval latest = existing.getOrDefault(deviceId, DeviceLatestApproval.of(deviceId));
+            if (!latest.isReplaceableBy(request.getId(), request.getCreatedDate())) {
+                continue;
+            }
+            DeviceApprovalItem item = detail.findItemByDeviceId(deviceId);
+            String requestedRealUser = item != null ? item.getRequestedRealUser() : detail.getRequestedRealUser();
+            latest.apply(detail.getAction(),
+                    request.getStatus(),
+                    request.getId(),
+                    request.getDueDate(),
+                    request.getCreatedDate(),
+                    request.getRequesterName(),
+                    requestedRealUser);
+            changed.add(latest);
+        }
+        if (!changed.isEmpty()) {
+            deviceLatestApprovalRepository.saveAll(changed);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, DeviceLatestApproval> findByDeviceIds(Collection<String> deviceIds) {
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Set<String> targetIds = deviceIds.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (targetIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 목록 전체 빌드처럼 대상이 많으면 IN 절 대신 테이블 전체를 읽는다.
+        List<DeviceLatestApproval> rows = targetIds.size() > FULL_SCAN_THRESHOLD
+                ? deviceLatestApprovalRepository.findAll()
+                : deviceLatestApprovalRepository.findAllById(targetIds);
+
+        Map<String, DeviceLatestApproval> result = new LinkedHashMap<>();
+        for (DeviceLatestApproval row : rows) {
+            if (row != null && targetIds.contains(row.getDeviceId())) {
+                result.put(row.getDeviceId(), row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 행이 없는 장비에 한해 기존 스냅샷 쿼리 결과로 최신 결재 행을 채운다.
+     * 이미 존재하는 행은 실시간 갱신 결과이므로 덮어쓰지 않는다.
+     */
+    @Transactional
+    public int backfill(Collection<String> deviceIds) {
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return 0;
+        }
+        Set<String> existingIds = deviceLatestApprovalRepository.findAllById(deviceIds).stream()
+                .map(DeviceLatestApproval::getDeviceId)
+                .collect(Collectors.toSet());
+
+        List<DeviceLatestApproval> inserts = new ArrayList<>();
+        for (Object[] row : deviceApprovalDetailRepository.findLatestApprovalSnapshots(deviceIds)) {
+            if (row == null || row.length < 8) {
+                continue;
+            }
+            String deviceId = toStringValue(row[0]);
+            if (deviceId == null || existingIds.contains(deviceId)) {
+                continue;
+            }
+            DeviceLatestApproval latest = DeviceLatestApproval.of(deviceId);
+            latest.apply(toDeviceApprovalAction(row[1]),
+                    toApprovalStatus(row[2]),
+                    toLong(row[3]),
+                    toLocalDateTime(row[4]),
+                    toLocalDateTime(row[5]),
+                    toStringValue(row[6]),
+                    toStringValue(row[7]));
+            inserts.add(latest);
+            existingIds.add(deviceId);
+        }
+        deviceLatestApprovalRepository.saveAll(inserts);
+        return inserts.size();
+    }
+
+    private String toStringValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private DeviceApprovalAction toDeviceApprovalAction(Object value) {
+        String text = toStringValue(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return DeviceApprovalAction.valueOf(text);
+        } catch (IllegalArgumentException ignore) {
+            return DeviceApprovalAction.fromDisplayName(text);
+        }
+    }
+
+    private ApprovalStatus toApprovalStatus(Object value) {
+        String text = toStringValue(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return ApprovalStatus.valueOf(text);
+        } catch (IllegalArgumentException ignore) {
+            return null;
+        }
+    }
+
+    private Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        String text = toStringValue(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException ignore) {
+            return null;
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        if (value instanceof java.sql.Timestamp ts) {
+            return ts.toLocalDateTime();
+        }
+        if (value instanceof java.util.Date date) {
+            return LocalDateTime.ofInstant(date.toInstant(), java.time.ZoneId.systemDefault());
+        }
+        return null;
+    }
+}
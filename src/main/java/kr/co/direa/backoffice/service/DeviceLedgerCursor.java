@@ -0,0 +1,68 @@
+package kr.co.direa.backoffice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import kr.co.direa.backoffice.exception.CustomException;
+import kr.co.direa.backoffice.exception.code.CustomErrorCode;
+
+/**
+ * 관리자 장비 대장 커서.
+ * 마지막 행의 (정렬 키, id)와 함께 정렬/필터 조건을 담아, 조건이 바뀐 커서는 거부한다.
+ */
+record DeviceLedgerCursor(String sortField,
+                          boolean ascending,
+                          boolean disposedOnly,
+                          int filterHash,
+                          String sortValue,
+                          String lastId) {
+    private static final String VERSION = "v1";
+    private static final String NULL_TOKEN = "~";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    String encode() {
+        String raw = String.join(".",
+                VERSION,
+                encodePart(sortField),
+                ascending ? "a" : "d",
+                disposedOnly ? "1" : "0",
+                Integer.toString(filterHash),
+                sortValue == null ? NULL_TOKEN : encodePart(sortValue),
+                encodePart(lastId));
+        return encodePart(raw);
+    }
+
+    static DeviceLedgerCursor decode(String token) {
+        try {
+            String[] parts = decodePart(token).split("\\.", -1);
+            if (parts.length != 7 || !VERSION.equals(parts[0])) {
+                throw new CustomException(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID);
+            }
+            return new DeviceLedgerCursor(
+                    decodePart(parts[1]),
+                    "a".equals(parts[2]),
+                    "1".equals(parts[3]),
+                    Integer.parseInt(parts[4]),
+                    NULL_TOKEN.equals(parts[5]) ? null : decodePart(parts[5]),
+                    decodePart(parts[6]));
+        } catch (IllegalArgumentException ex) {
+            throw new CustomException(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID);
+        }
+    }
+
+    boolean matches(String sortField, boolean ascending, boolean disposedOnly, int filterHash) {
+        return this.sortField.equals(sortField)
+                && this.ascending == ascending
+                && this.disposedOnly == disposedOnly
+                && this.filterHash == filterHash;
+    }
+
+    private static String encodePart(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+}
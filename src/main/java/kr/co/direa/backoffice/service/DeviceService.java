@@ -1,13 +1,11 @@
 package kr.co.direa.backoffice.service;
 
-import java.text.Collator;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -16,10 +14,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.function.Function;
@@ -29,6 +24,8 @@ import kr.co.direa.backoffice.domain.ApprovalRequest;
 import kr.co.direa.backoffice.domain.Categories;
 import kr.co.direa.backoffice.domain.Departments;
 import kr.co.direa.backoffice.domain.DeviceApprovalDetail;
+import kr.co.direa.backoffice.domain.DeviceEvent;
+import kr.co.direa.backoffice.domain.DeviceLatestApproval;
 import kr.co.direa.backoffice.domain.Devices;
 import kr.co.direa.backoffice.domain.Projects;
 import kr.co.direa.backoffice.domain.enums.ApprovalCategory;
@@ -40,36 +37,77 @@ import kr.co.direa.backoffice.dto.PageResponse;
 import kr.co.direa.backoffice.exception.CustomException;
 import kr.co.direa.backoffice.exception.code.CustomErrorCode;
 import kr.co.direa.backoffice.repository.ApprovalRequestRepository;
-import kr.co.direa.backoffice.repository.DeviceApprovalDetailRepository;
 import kr.co.direa.backoffice.repository.DeviceTagRepository;
-import kr.co.direa.backoffice.repository.DeviceCategorySummary;
 import kr.co.direa.backoffice.repository.DevicesRepository;
 import kr.co.direa.backoffice.repository.spec.DeviceSpecifications;
+import kr.co.direa.backoffice.service.search.DeviceSearchIndex;
 import kr.co.direa.backoffice.vo.AdminDeviceSearchRequest;
+import kr.co.direa.backoffice.vo.DeviceHistoryMode;
 import kr.co.direa.backoffice.vo.DeviceSearchRequest;
 import kr.co.direa.backoffice.vo.MyDeviceSearchRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DeviceService {
     private final DevicesRepository devicesRepository;
     private final ApprovalRequestRepository approvalRequestRepository;
-    private final DeviceApprovalDetailRepository deviceApprovalDetailRepository;
     private final DeviceTagRepository deviceTagRepository;
     private final CommonLookupService commonLookupService;
-
-    private static final Pattern OPERATOR_SUFFIX_PATTERN = Pattern.compile("\\(처리자: (?<username>.+?)\\)$");
+    private final AvailableDeviceProjection availableDeviceProjection;
+    private final DeviceLatestApprovalService deviceLatestApprovalService;
+    private final DeviceAvailabilityCounterService deviceAvailabilityCounterService;
+    private final AdminLedgerMetadataService adminLedgerMetadataService;
+    private final AdminLedgerCountService adminLedgerCountService;
+    private final DeviceSearchIndex deviceSearchIndex;
+    private final DeviceEventService deviceEventService;
+    private final KoreanCollationKeys koreanCollationKeys;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final List<String> ADMIN_KEYWORD_INDEX_FIELDS = List.of(
+            DeviceSearchIndex.FIELD_ID,
+            DeviceSearchIndex.FIELD_CATEGORY_NAME,
+            DeviceSearchIndex.FIELD_MANAGE_DEP_NAME,
+            DeviceSearchIndex.FIELD_PROJECT_NAME,
+            DeviceSearchIndex.FIELD_PURPOSE,
+            DeviceSearchIndex.FIELD_COMPANY,
+            DeviceSearchIndex.FIELD_MODEL,
+            DeviceSearchIndex.FIELD_DESCRIPTION,
+            DeviceSearchIndex.FIELD_SN,
+            DeviceSearchIndex.FIELD_STATUS,
+            DeviceSearchIndex.FIELD_USERNAME);
+    private static final List<String> AVAILABLE_KEYWORD_INDEX_FIELDS = List.of(
+            DeviceSearchIndex.FIELD_CATEGORY_NAME,
+            DeviceSearchIndex.FIELD_ID,
+            DeviceSearchIndex.FIELD_PURPOSE,
+            DeviceSearchIndex.FIELD_DESCRIPTION,
+            DeviceSearchIndex.FIELD_TAGS);
+    private static final LocalDateTime HISTORY_CURSOR_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String AVAILABLE_LIST_SOURCE_DATABASE = "database";
+
+    // projection: 메모리 상주 프로젝션, database: Specification 기반 DB 페이징
+    @Value("${app.devices.available-list.source:projection}")
+    private String availableListSource;
 
     // Bulk 등록 메서드
     @Transactional
     public void bulkRegisterDevices(List<DeviceDto> deviceDtoList) {
+        List<String> registeredIds = new ArrayList<>();
         for (DeviceDto dto : deviceDtoList) {
             Devices device = new Devices();
             device.setId(dto.getId());
@@ -104,35 +142,29 @@ public class DeviceService {
                     });
             device.setRealUser(dto.getRealUser());
             devicesRepository.save(device);
+            registeredIds.add(device.getId());
         }
+        eventPublisher.publishEvent(DeviceChangedEvent.of(registeredIds));
     }
 
     @Transactional(readOnly = true)
     public PageResponse<DeviceDto> findAvailableDevices(DeviceSearchRequest request) {
-        List<DeviceDto> baseList = loadAvailableDeviceDtos();
-
-        Set<String> categorySet = new HashSet<>();
-        Set<String> purposeSet = new HashSet<>();
-        Map<String, Long> categoryCountMap = new HashMap<>();
-        Map<String, Long> purposeCountMap = new HashMap<>();
-        baseList.forEach(dto -> {
-            if (dto.getCategoryName() != null && !dto.getCategoryName().isBlank()) {
-                categorySet.add(dto.getCategoryName());
-                categoryCountMap.merge(dto.getCategoryName(), 1L, Long::sum);
-            }
-            if (dto.getPurpose() != null && !dto.getPurpose().isBlank()) {
-                purposeSet.add(dto.getPurpose());
-                purposeCountMap.merge(dto.getPurpose(), 1L, Long::sum);
-            }
-        });
+        if (AVAILABLE_LIST_SOURCE_DATABASE.equalsIgnoreCase(availableListSource)) {
+            return findAvailableDevicesFromDatabase(request);
+        }
+
+        AvailableDeviceProjection.Snapshot snapshot = availableDeviceProjection.getOrBuild(this::loadAvailableDeviceDtos);
+        List<DeviceDto> baseList = snapshot.rows();
 
         String filterField = normalizeDeviceFilterField(request.filterField());
         String keyword = normalizeKeyword(request.keyword());
         String chip = normalizeChipValue(request.chipValue());
 
+        Optional<Set<String>> indexedIds = deviceSearchIndex.matchDeviceIds(keyword, availableKeywordIndexFields(filterField));
         List<DeviceDto> filtered = baseList.stream()
                 .filter(dto -> matchesDeviceChip(dto, filterField, chip))
-                .filter(dto -> matchesDeviceKeyword(dto, filterField, keyword))
+                .filter(dto -> indexedIds.map(ids -> ids.contains(dto.getId()))
+                        .orElseGet(() -> matchesDeviceKeyword(dto, filterField, keyword)))
                 .collect(Collectors.toList());
 
         int size = clampSize(request.size());
@@ -141,23 +173,107 @@ public class DeviceService {
         int page = clampPage(request.page(), totalPages, totalElements);
         int fromIndex = Math.min((page - 1) * size, totalElements);
         int toIndex = Math.min(fromIndex + size, totalElements);
-        List<DeviceDto> content = filtered.subList(fromIndex, toIndex);
-
-        Collator collator = Collator.getInstance(Locale.KOREAN);
-        collator.setStrength(Collator.PRIMARY);
+        List<DeviceDto> content = withHistoryMode(filtered.subList(fromIndex, toIndex), request.historyMode());
 
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("categories", categorySet.stream().sorted(collator).toList());
-        metadata.put("purposes", purposeSet.stream().sorted(collator).toList());
-        metadata.put("categoryCounts", categoryCountMap);
-        metadata.put("purposeCounts", purposeCountMap);
+        metadata.put("categories", snapshot.categories());
+        metadata.put("purposes", snapshot.purposes());
+        metadata.put("categoryCounts", snapshot.categoryCounts());
+        metadata.put("purposeCounts", snapshot.purposeCounts());
+        metadata.put("version", snapshot.version());
 
         return PageResponse.of(content, page, size, totalElements, totalPages, metadata);
     }
 
+    private PageResponse<DeviceDto> findAvailableDevicesFromDatabase(DeviceSearchRequest request) {
+        String filterField = normalizeDeviceFilterField(request.filterField());
+        String keyword = normalizeKeyword(request.keyword());
+        String chip = normalizeChipValue(request.chipValue());
+        int size = clampSize(request.size());
+
+        Optional<Set<String>> indexedIds = deviceSearchIndex.findDeviceIds(keyword, availableKeywordIndexFields(filterField));
+        Specification<Devices> spec = DeviceSpecifications.availableSearch(
+                new DeviceSpecifications.AvailableDeviceSearchContext(filterField, indexedIds.isPresent() ? null : keyword, chip));
+        if (indexedIds.isPresent()) {
+            spec = spec.and(DeviceSpecifications.idIn(indexedIds.get()));
+        }
+        Sort sort = Sort.by(Sort.Direction.ASC, "id");
+
+        int page = Math.max(request.page(), 1);
+        Page<Devices> devicePage = devicesRepository.findAll(spec, PageRequest.of(page - 1, size, sort));
+        if (devicePage.getTotalElements() == 0) {
+            page = 1;
+        } else if (page > devicePage.getTotalPages()) {
+            page = devicePage.getTotalPages();
+            devicePage = devicesRepository.findAll(spec, PageRequest.of(page - 1, size, sort));
+        }
+
+        List<String> pageIds = devicePage.getContent().stream()
+                .map(Devices::getId)
+                .filter(id -> id != null && !id.isBlank())
+                .toList();
+        Map<String, DeviceDto> dtoById = loadAvailableDeviceDtos(pageIds, request.historyMode()).stream()
+                .collect(Collectors.toMap(DeviceDto::getId, Function.identity(), (left, right) -> left));
+        List<DeviceDto> content = pageIds.stream()
+                .map(dtoById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Specification<Devices> facetSpec = DeviceSpecifications.availableForRental();
+        Map<String, Long> categoryCounts = devicesRepository.countGroupedBy(facetSpec, "categoryId.name");
+        Map<String, Long> purposeCounts = devicesRepository.countGroupedBy(facetSpec, "purpose");
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("categories", koreanCollationKeys.sorted(categoryCounts.keySet()));
+        metadata.put("purposes", koreanCollationKeys.sorted(purposeCounts.keySet()));
+        metadata.put("categoryCounts", categoryCounts);
+        metadata.put("purposeCounts", purposeCounts);
+
+        int totalPages = Math.max(devicePage.getTotalPages(), 1);
+        return PageResponse.of(content, page, size, devicePage.getTotalElements(), totalPages, metadata);
+    }
+
+    /**
+     * 커밋된 장비 변경분을 대여 가능 목록 프로젝션에 반영한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onDevicesChanged(DeviceChangedEvent event) {
+        if (event == null || event.isEmpty()) {
+            return;
+        }
+        if (event.allDevices()) {
+            availableDeviceProjection.invalidate();
+            return;
+        }
+        try {
+            availableDeviceProjection.refresh(event.deviceIds(), this::loadAvailableDeviceDtos);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh available device projection for {}: {}", event.deviceIds(), ex.getMessage());
+            availableDeviceProjection.invalidate();
+        }
+    }
+
     private List<DeviceDto> loadAvailableDeviceDtos() {
-    List<Devices> devices = devicesRepository.findAllWithDetails();
+        return toAvailableDeviceDtos(devicesRepository.findAllWithDetails());
+    }
+
+    private List<DeviceDto> loadAvailableDeviceDtos(Collection<String> deviceIds) {
+        return loadAvailableDeviceDtos(deviceIds, DeviceHistoryMode.FULL);
+    }
+
+    private List<DeviceDto> loadAvailableDeviceDtos(Collection<String> deviceIds, DeviceHistoryMode historyMode) {
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return toAvailableDeviceDtos(devicesRepository.findAllWithDetailsByIdIn(deviceIds), historyMode);
+    }
 
+    private List<DeviceDto> toAvailableDeviceDtos(List<Devices> devices) {
+        return toAvailableDeviceDtos(devices, DeviceHistoryMode.FULL);
+    }
+
+    private List<DeviceDto> toAvailableDeviceDtos(List<Devices> devices, DeviceHistoryMode historyMode) {
     Map<String, LatestApprovalSnapshot> snapshotMap = loadLatestApprovalSnapshots(
         devices.stream()
             .map(Devices::getId)
@@ -177,9 +293,14 @@ public class DeviceService {
         })
         .toList();
 
-    Map<String, List<Map<String, Object>>> historyMap = buildHistoryMap(availableDevices);
+    Map<String, List<Map<String, Object>>> historyMap = historyMode == DeviceHistoryMode.FULL
+        ? buildHistoryMap(availableDevices)
+        : Collections.emptyMap();
+    Map<String, Long> historyCounts = historyMode == DeviceHistoryMode.COUNT
+        ? countHistoryByIds(availableDevices.stream().map(Devices::getId).toList())
+        : Collections.emptyMap();
 
-    return availableDevices.stream()
+    List<DeviceDto> dtos = availableDevices.stream()
         .map(device -> {
         String rawDeviceId = Optional.ofNullable(device)
             .map(Devices::getId)
@@ -190,9 +311,11 @@ public class DeviceService {
             .orElse(null);
     LatestApprovalSnapshot snapshot = normalizedId != null ? snapshotMap.get(normalizedId) : null;
         List<Map<String, Object>> history = historyMap.getOrDefault(rawDeviceId, Collections.emptyList());
-        return toDeviceDto(device, snapshot, history);
+        return applyHistoryMode(buildDeviceDto(device, snapshot, history), historyMode, historyCounts);
         })
         .toList();
+    enrichDeviceUserProfiles(dtos);
+    return dtos;
     }
 
     private DeviceDto toDeviceDto(Devices device) {
@@ -202,13 +325,22 @@ public class DeviceService {
         return toDeviceDto(device, null, buildHistory(device.getId()));
     }
 
-    private DeviceDto toDeviceDto(Devices device, List<Map<String, Object>> history) {
-        return toDeviceDto(device, null, history);
-    }
-
     private DeviceDto toDeviceDto(Devices device,
                                   LatestApprovalSnapshot snapshot,
                                   List<Map<String, Object>> history) {
+        DeviceDto dto = buildDeviceDto(device, snapshot, history);
+        if (dto != null) {
+            enrichDeviceUserProfiles(List.of(dto));
+        }
+        return dto;
+    }
+
+    /**
+     * 사용자 프로필 보강 없이 DTO만 만든다. 목록은 페이지 단위로 모아 enrichDeviceUserProfiles를 한 번 호출한다.
+     */
+    private DeviceDto buildDeviceDto(Devices device,
+                                     LatestApprovalSnapshot snapshot,
+                                     List<Map<String, Object>> history) {
         if (device == null) {
             return null;
         }
@@ -232,7 +364,6 @@ public class DeviceService {
                 }
             }
         }
-        enrichDeviceUserProfile(device, dto);
         return dto;
     }
 
@@ -358,12 +489,9 @@ public class DeviceService {
     }
 
     private Map<String, Object> buildMyDeviceMetadata(List<DeviceDto> dtoList) {
-        Collator collator = Collator.getInstance(Locale.KOREAN);
-        collator.setStrength(Collator.PRIMARY);
-
-        Set<String> categories = new TreeSet<>(collator);
-        Set<String> projects = new TreeSet<>(collator);
-        Set<String> departments = new TreeSet<>(collator);
+        List<String> categories = new ArrayList<>();
+        List<String> projects = new ArrayList<>();
+        List<String> departments = new ArrayList<>();
 
         for (DeviceDto dto : dtoList) {
             Optional.ofNullable(normalizeForFilter(dto.getCategoryName())).ifPresent(categories::add);
@@ -372,9 +500,9 @@ public class DeviceService {
         }
 
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("categories", List.copyOf(categories));
-        metadata.put("projects", List.copyOf(projects));
-        metadata.put("departments", List.copyOf(departments));
+        metadata.put("categories", koreanCollationKeys.sortedDistinct(categories));
+        metadata.put("projects", koreanCollationKeys.sortedDistinct(projects));
+        metadata.put("departments", koreanCollationKeys.sortedDistinct(departments));
         metadata.put("totalRecords", dtoList.size());
         metadata.put("pageSizeOptions", List.of(7, 10, 25, 50));
         return metadata;
@@ -455,8 +583,7 @@ public class DeviceService {
     }
 
     private Comparator<DeviceDto> buildMyDeviceComparator(String sortField, boolean ascending) {
-        Collator collator = Collator.getInstance(Locale.KOREAN);
-        collator.setStrength(Collator.PRIMARY);
+        Comparator<String> collator = koreanCollationKeys.comparator();
 
         Comparator<DeviceDto> comparator = switch (sortField) {
             case "id" -> Comparator.comparing(dto -> sortableString(dto.getId()), Comparator.nullsLast(collator));
@@ -530,98 +657,19 @@ public class DeviceService {
             return Collections.emptyMap();
         }
 
-        List<Object[]> rows = deviceApprovalDetailRepository.findLatestApprovalSnapshots(targetIds);
         Map<String, LatestApprovalSnapshot> result = new LinkedHashMap<>();
-        for (Object[] row : rows) {
-            if (row == null || row.length < 8) {
-                continue;
-            }
-
-            String deviceId = toStringValue(row[0]);
-            if (deviceId == null || deviceId.isEmpty()) {
-                continue;
-            }
-            if (!targetIds.contains(deviceId) || result.containsKey(deviceId)) {
-                continue;
-            }
-
-            DeviceApprovalAction action = toDeviceApprovalAction(row[1]);
-            ApprovalStatus status = toApprovalStatus(row[2]);
-            Long requestId = toLong(row[3]);
-            LocalDateTime dueDate = toLocalDateTime(row[4]);
-            LocalDateTime createdDate = toLocalDateTime(row[5]);
-            String requesterName = toStringValue(row[6]);
-            String requestedRealUser = toStringValue(row[7]);
-
-            result.put(deviceId, new LatestApprovalSnapshot(deviceId, action, status, requestId, dueDate, createdDate, requesterName, requestedRealUser));
-        }
-
+        deviceLatestApprovalService.findByDeviceIds(targetIds).forEach((deviceId, latest) ->
+                result.put(deviceId, new LatestApprovalSnapshot(deviceId,
+                        latest.getAction(),
+                        latest.getStatus(),
+                        latest.getRequestId(),
+                        latest.getDueDate(),
+                        latest.getRequestCreatedDate(),
+                        latest.getRequesterName(),
+                        latest.getRequestedRealUser())));
         return result;
     }
 
-    private String toStringValue(Object value) {
-        if (value == null) {
-            return null;
-        }
-        String text = value.toString().trim();
-        return text.isEmpty() ? null : text;
-    }
-
-    private DeviceApprovalAction toDeviceApprovalAction(Object value) {
-        String text = toStringValue(value);
-        if (text == null) {
-            return null;
-        }
-        try {
-            return DeviceApprovalAction.valueOf(text);
-        } catch (IllegalArgumentException ignore) {
-            return DeviceApprovalAction.fromDisplayName(text);
-        }
-    }
-
-    private ApprovalStatus toApprovalStatus(Object value) {
-        String text = toStringValue(value);
-        if (text == null) {
-            return null;
-        }
-        try {
-            return ApprovalStatus.valueOf(text);
-        } catch (IllegalArgumentException ignore) {
-            return null;
-        }
-    }
-
-    private Long toLong(Object value) {
-        if (value instanceof Number number) {
-            return number.longValue();
-        }
-        String text = toStringValue(value);
-        if (text == null) {
-            return null;
-        }
-        try {
-            return Long.parseLong(text);
-        } catch (NumberFormatException ignore) {
-            return null;
-        }
-    }
-
-    private LocalDateTime toLocalDateTime(Object value) {
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof LocalDateTime localDateTime) {
-            return localDateTime;
-        }
-        if (value instanceof java.sql.Timestamp ts) {
-            return ts.toLocalDateTime();
-        }
-        if (value instanceof java.util.Date date) {
-            return LocalDateTime.ofInstant(date.toInstant(), java.time.ZoneId.systemDefault());
-        }
-        return null;
-    }
-
     private DeviceDto toMyDeviceDto(Devices device,
                                     LatestApprovalSnapshot snapshot,
                                     List<String> tags) {
@@ -689,31 +737,146 @@ public class DeviceService {
 
     private PageResponse<DeviceDto> findAdminDevicesForLedger(AdminDeviceSearchRequest request, boolean disposedOnly) {
         AdminDeviceSearchRequest safeRequest = request == null
-                ? new AdminDeviceSearchRequest(1, 10, "categoryName", null, null, "categoryName", "asc")
+                ? new AdminDeviceSearchRequest(1, 10, "categoryName", null, null, "categoryName", "asc", null, null, false, null)
                 : request;
 
         AdminSearchContext context = toAdminSearchContext(safeRequest, disposedOnly);
 
+        Optional<Set<String>> indexedIds = deviceSearchIndex.findDeviceIds(context.keyword(),
+                adminKeywordIndexFields(context.filterField()));
         DeviceSpecifications.AdminDeviceSearchContext specContext =
                 new DeviceSpecifications.AdminDeviceSearchContext(
                         context.filterField(),
                         context.filterValue(),
-                        context.keyword(),
+                        indexedIds.isPresent() ? null : context.keyword(),
                         context.disposedOnly());
+        Specification<Devices> spec = DeviceSpecifications.adminSearch(specContext);
+        if (indexedIds.isPresent()) {
+            spec = spec.and(DeviceSpecifications.idIn(indexedIds.get()));
+        }
 
         Sort sort = buildAdminSort(context.sortField(), context.ascending());
+        if (safeRequest.cursorMode()) {
+            return findAdminDevicesByCursor(safeRequest.cursor(), context, spec, sort);
+        }
+        if (safeRequest.sliceMode()) {
+            return findAdminDevicesBySlice(safeRequest.withTotal(), context, spec, sort);
+        }
+
         Pageable pageable = PageRequest.of(Math.max(context.page() - 1, 0), context.size(), sort);
 
-        Page<Devices> devicePage = devicesRepository.findAll(DeviceSpecifications.adminSearch(specContext), pageable);
+        Page<Devices> devicePage = devicesRepository.findAll(spec, pageable);
+        List<DeviceDto> content = toLedgerDtos(devicePage.getContent(), context.historyMode());
 
-        List<String> pageIds = devicePage.getContent().stream()
+        Map<String, Object> metadata = adminLedgerMetadataService.getMetadata(disposedOnly);
+
+        int totalPages = Math.max(devicePage.getTotalPages(), 1);
+        return PageResponse.of(content,
+                context.page(),
+                context.size(),
+                devicePage.getTotalElements(),
+                totalPages,
+                metadata);
+    }
+
+    /**
+     * 커서(keyset) 방식 대장 조회. 마지막 (정렬 키, id) 이후 size + 1건만 읽어 다음 커서 존재 여부를 판단하므로
+     * 몇 번째 묶음이든 조회 비용이 같고 count 쿼리도 없다.
+     */
+    private PageResponse<DeviceDto> findAdminDevicesByCursor(String cursorToken,
+                                                             AdminSearchContext context,
+                                                             Specification<Devices> spec,
+                                                             Sort sort) {
+        int filterHash = Objects.hash(context.filterField(), context.filterValue(), context.keyword());
+        Specification<Devices> windowSpec = spec;
+        if (cursorToken != null) {
+            DeviceLedgerCursor cursor = DeviceLedgerCursor.decode(cursorToken);
+            if (!cursor.matches(context.sortField(), context.ascending(), context.disposedOnly(), filterHash)) {
+                throw new CustomException(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID);
+            }
+            windowSpec = spec.and(DeviceSpecifications.adminKeysetAfter(
+                    resolveAdminSortProperty(context.sortField()),
+                    context.ascending(),
+                    parseAdminSortValue(context.sortField(), cursor.sortValue()),
+                    cursor.lastId()));
+        }
+
+        List<Devices> window = devicesRepository.findWindow(windowSpec, sort, 0L, context.size() + 1);
+        boolean hasNext = window.size() > context.size();
+        List<Devices> pageDevices = hasNext ? window.subList(0, context.size()) : window;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Devices last = pageDevices.get(pageDevices.size() - 1);
+            nextCursor = new DeviceLedgerCursor(context.sortField(),
+                    context.ascending(),
+                    context.disposedOnly(),
+                    filterHash,
+                    formatAdminSortValue(context.sortField(), last),
+                    last.getId()).encode();
+        }
+
+        Map<String, Object> metadata = adminLedgerMetadataService.getMetadata(context.disposedOnly());
+        metadata.put("pagination", "cursor");
+        return PageResponse.ofCursor(toLedgerDtos(pageDevices, context.historyMode()),
+                context.size(),
+                cursorToken == null,
+                nextCursor,
+                metadata);
+    }
+
+    /**
+     * 슬라이스 방식 대장 조회. size + 1건으로 다음 페이지 존재 여부만 판단하고 count 쿼리를 생략한다.
+     * totalElements는 지금까지 확인된 건수(하한)이며, withTotal이면 백그라운드에서 센 전체 건수를
+     * metadata.approximateTotal로 함께 내려준다(totalPending이 true면 재계산 중).
+     */
+    private PageResponse<DeviceDto> findAdminDevicesBySlice(boolean withTotal,
+                                                            AdminSearchContext context,
+                                                            Specification<Devices> spec,
+                                                            Sort sort) {
+        long offset = (long) (context.page() - 1) * context.size();
+        List<Devices> window = devicesRepository.findWindow(spec, sort, offset, context.size() + 1);
+        boolean hasNext = window.size() > context.size();
+        List<Devices> pageDevices = hasNext ? window.subList(0, context.size()) : window;
+
+        Map<String, Object> metadata = adminLedgerMetadataService.getMetadata(context.disposedOnly());
+        metadata.put("pagination", "slice");
+        metadata.put("hasNext", hasNext);
+        if (withTotal) {
+            AdminLedgerCountService.TotalEstimate estimate = adminLedgerCountService.estimate(
+                    new AdminLedgerCountService.CountKey(context.disposedOnly(),
+                            context.filterField(),
+                            context.filterValue(),
+                            context.keyword()),
+                    spec);
+            metadata.put("totalPending", estimate == null || !estimate.exact());
+            if (estimate != null) {
+                metadata.put("approximateTotal", estimate.total());
+            }
+        }
+
+        int totalPages = hasNext ? context.page() + 1 : context.page();
+        return PageResponse.of(toLedgerDtos(pageDevices, context.historyMode()),
+                context.page(),
+                context.size(),
+                offset + pageDevices.size(),
+                totalPages,
+                metadata);
+    }
+
+    private List<DeviceDto> toLedgerDtos(List<Devices> devices, DeviceHistoryMode historyMode) {
+        List<String> pageIds = devices.stream()
+                .filter(Objects::nonNull)
                 .map(Devices::getId)
                 .filter(id -> id != null && !id.isBlank())
                 .toList();
 
-        Map<String, List<Map<String, Object>>> historyMap = pageIds.isEmpty()
+        Map<String, List<Map<String, Object>>> historyMap = pageIds.isEmpty() || historyMode != DeviceHistoryMode.FULL
                 ? Collections.emptyMap()
                 : buildHistoryMapByIds(new LinkedHashSet<>(pageIds));
+        Map<String, Long> historyCounts = historyMode == DeviceHistoryMode.COUNT
+                ? countHistoryByIds(pageIds)
+                : Collections.emptyMap();
 
         Map<String, Devices> detailedDeviceMap = pageIds.isEmpty()
                 ? Collections.emptyMap()
@@ -724,25 +887,16 @@ public class DeviceService {
                                 LinkedHashMap::new));
 
         List<DeviceDto> content = new ArrayList<>();
-        for (Devices shallowDevice : devicePage.getContent()) {
+        for (Devices shallowDevice : devices) {
             if (shallowDevice == null || shallowDevice.getId() == null) {
                 continue;
             }
             Devices detailed = detailedDeviceMap.getOrDefault(shallowDevice.getId(), shallowDevice);
             List<Map<String, Object>> history = historyMap.getOrDefault(shallowDevice.getId(), Collections.emptyList());
-            content.add(toDeviceDto(detailed, history));
+            content.add(applyHistoryMode(buildDeviceDto(detailed, null, history), historyMode, historyCounts));
         }
-
-        List<DeviceSummary> metadataSource = loadAdminSummaries(disposedOnly);
-        Map<String, Object> metadata = buildAdminMetadata(metadataSource, disposedOnly);
-
-        int totalPages = Math.max(devicePage.getTotalPages(), 1);
-        return PageResponse.of(content,
-                context.page(),
-                context.size(),
-                devicePage.getTotalElements(),
-                totalPages,
-                metadata);
+        enrichDeviceUserProfiles(content);
+        return content;
     }
 
     private AdminSearchContext toAdminSearchContext(AdminDeviceSearchRequest request, boolean disposedOnly) {
@@ -753,12 +907,17 @@ public class DeviceService {
         String filterValue = normalizeFilterValue(request.filterValue());
         String sortField = normalizeAdminSortField(request.sortField());
         boolean ascending = !"desc".equalsIgnoreCase(request.sortDirection());
-        return new AdminSearchContext(safePage, size, filterField, keyword, filterValue, sortField, ascending, disposedOnly);
+        return new AdminSearchContext(safePage, size, filterField, keyword, filterValue, sortField, ascending, disposedOnly,
+                request.historyMode());
     }
 
     private Sort buildAdminSort(String sortField, boolean ascending) {
         Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
-        String property = switch (sortField) {
+        return Sort.by(direction, resolveAdminSortProperty(sortField)).and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    private String resolveAdminSortProperty(String sortField) {
+        return switch (sortField) {
             case "id" -> "id";
             case "username" -> "realUser";
             case "status" -> "status";
@@ -772,19 +931,38 @@ public class DeviceService {
             case "price" -> "price";
             default -> "categoryId.name";
         };
-        return Sort.by(direction, property).and(Sort.by(Sort.Direction.ASC, "id"));
     }
 
-    private List<DeviceSummary> loadAdminSummaries(boolean disposedOnly) {
-        DeviceSpecifications.AdminDeviceSearchContext specContext =
-                new DeviceSpecifications.AdminDeviceSearchContext(null, null, null, disposedOnly);
-        List<Devices> devices = devicesRepository.findAll(DeviceSpecifications.adminSearch(specContext));
-        if (devices.isEmpty()) {
-            return List.of();
+    private String formatAdminSortValue(String sortField, Devices device) {
+        return switch (sortField) {
+            case "id" -> device.getId();
+            case "username" -> device.getRealUser();
+            case "status" -> device.getStatus();
+            case "manageDepName" -> device.getManageDep() != null ? device.getManageDep().getName() : null;
+            case "projectName" -> device.getProjectId() != null ? device.getProjectId().getName() : null;
+            case "purpose" -> device.getPurpose();
+            case "company" -> device.getCompany();
+            case "model" -> device.getModel();
+            case "description" -> device.getDescription();
+            case "purchaseDate" -> device.getPurchaseDate() != null ? Long.toString(device.getPurchaseDate().getTime()) : null;
+            case "price" -> device.getPrice() != null ? device.getPrice().toString() : null;
+            default -> device.getCategoryId() != null ? device.getCategoryId().getName() : null;
+        };
+    }
+
+    private Comparable<?> parseAdminSortValue(String sortField, String raw) {
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return switch (sortField) {
+                case "purchaseDate" -> new java.util.Date(Long.parseLong(raw));
+                case "price" -> Long.valueOf(raw);
+                default -> raw;
+            };
+        } catch (NumberFormatException ex) {
+            throw new CustomException(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID);
         }
-        return devices.stream()
-                .map(DeviceSummary::from)
-                .toList();
     }
 
     private record AdminSearchContext(int page,
@@ -794,88 +972,13 @@ public class DeviceService {
                                       String filterValue,
                                       String sortField,
                                       boolean ascending,
-                                      boolean disposedOnly) {
-    }
-
-    private Map<String, Object> buildAdminMetadata(List<DeviceSummary> baseList, boolean disposedOnly) {
-        Collator collator = Collator.getInstance(Locale.KOREAN);
-        collator.setStrength(Collator.PRIMARY);
-
-        Map<String, List<String>> filters = new HashMap<>();
-        filters.put("categoryName", collectUniqueValues(baseList, DeviceSummary::categoryName, collator));
-        filters.put("username", collectUniqueValues(baseList, this::displayUser, collator));
-        filters.put("manageDepName", collectUniqueValues(baseList, DeviceSummary::manageDepName, collator));
-        filters.put("projectName", collectUniqueValues(baseList, DeviceSummary::projectName, collator));
-        filters.put("purpose", collectUniqueValues(baseList, DeviceSummary::purpose, collator));
-        filters.put("company", collectUniqueValues(baseList, DeviceSummary::company, collator));
-        filters.put("status", collectUniqueValues(baseList, DeviceSummary::status, collator));
-        filters.put("id", List.of());
-
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("filters", filters);
-        Map<String, Long> statusCounts = baseList.stream()
-                .collect(Collectors.groupingBy(summary -> Optional.ofNullable(normalizeForFilter(summary.status())).orElse("UNKNOWN"),
-                        Collectors.counting()));
-        metadata.put("statusCounts", statusCounts);
-        metadata.put("totalRecords", baseList.size());
-        metadata.put("disposedOnly", disposedOnly);
-        metadata.put("pageSizeOptions", List.of(10, 25, 50));
-        return metadata;
-    }
-
-    private List<String> collectUniqueValues(List<DeviceSummary> source,
-                                             Function<DeviceSummary, String> extractor,
-                                             Collator collator) {
-        if (source == null || source.isEmpty()) {
-            return List.of();
-        }
-        Set<String> unique = new TreeSet<>(collator);
-        for (DeviceSummary summary : source) {
-            String value = normalizeForFilter(extractor.apply(summary));
-            if (value != null) {
-                unique.add(value);
-            }
-        }
-        return List.copyOf(unique);
+                                      boolean disposedOnly,
+                                      DeviceHistoryMode historyMode) {
     }
 
     @Transactional(readOnly = true)
     public Map<String, Long> findAvailableDeviceCountsByCategory() {
-        List<DeviceCategorySummary> summaries = devicesRepository.findCategorySummaries();
-        if (summaries.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        List<String> deviceIds = summaries.stream()
-                .map(DeviceCategorySummary::getId)
-                .filter(id -> id != null && !id.isBlank())
-                .toList();
-
-        Map<String, LatestApprovalSnapshot> snapshotMap = loadLatestApprovalSnapshots(deviceIds);
-
-        Map<String, Long> categoryCounts = new HashMap<>();
-        for (DeviceCategorySummary summary : summaries) {
-            if (summary == null || summary.getId() == null) {
-                continue;
-            }
-            String summaryId = Optional.ofNullable(summary.getId())
-                    .map(String::trim)
-                    .filter(id -> !id.isEmpty())
-                    .orElse(null);
-            LatestApprovalSnapshot snapshot = summaryId != null ? snapshotMap.get(summaryId) : null;
-            if (!isDeviceVisibleInAvailableList(summary.getIsUsable(), snapshot)) {
-                continue;
-            }
-            String categoryName = Optional.ofNullable(summary.getCategoryName())
-                    .map(String::trim)
-                    .filter(name -> !name.isEmpty())
-                    .orElse(null);
-            if (categoryName == null) {
-                continue;
-            }
-            categoryCounts.merge(categoryName, 1L, Long::sum);
-        }
-        return categoryCounts;
+        return deviceAvailabilityCounterService.findCounts();
     }
 
     private String normalizeForFilter(String raw) {
@@ -910,6 +1013,39 @@ public class DeviceService {
         };
     }
 
+    /**
+     * 관리자 키워드 검색(DeviceSpecifications#buildKeywordPredicate)과 같은 범위의 색인 필드.
+     * 구입일자처럼 부분 문자열 검색이 아닌 필드는 빈 목록(기존 조건 사용).
+     */
+    private List<String> adminKeywordIndexFields(String filterField) {
+        if (filterField == null || "all".equals(filterField)) {
+            return ADMIN_KEYWORD_INDEX_FIELDS;
+        }
+        return switch (filterField) {
+            case "categoryName" -> List.of(DeviceSearchIndex.FIELD_CATEGORY_NAME);
+            case "id" -> List.of(DeviceSearchIndex.FIELD_ID);
+            case "username" -> List.of(DeviceSearchIndex.FIELD_USERNAME);
+            case "status" -> List.of(DeviceSearchIndex.FIELD_STATUS);
+            case "manageDepName" -> List.of(DeviceSearchIndex.FIELD_MANAGE_DEP_NAME);
+            case "projectName" -> List.of(DeviceSearchIndex.FIELD_PROJECT_NAME);
+            case "purpose" -> List.of(DeviceSearchIndex.FIELD_PURPOSE);
+            case "company" -> List.of(DeviceSearchIndex.FIELD_COMPANY);
+            case "model" -> List.of(DeviceSearchIndex.FIELD_MODEL);
+            case "description" -> List.of(DeviceSearchIndex.FIELD_DESCRIPTION);
+            default -> List.of();
+        };
+    }
+
+    private List<String> availableKeywordIndexFields(String filterField) {
+        return switch (filterField) {
+            case "categoryName" -> List.of(DeviceSearchIndex.FIELD_CATEGORY_NAME);
+            case "id" -> List.of(DeviceSearchIndex.FIELD_ID);
+            case "purpose" -> List.of(DeviceSearchIndex.FIELD_PURPOSE);
+            case "tags" -> List.of(DeviceSearchIndex.FIELD_TAGS);
+            default -> AVAILABLE_KEYWORD_INDEX_FIELDS;
+        };
+    }
+
     private String normalizeAdminSortField(String raw) {
         if (raw == null || raw.isBlank()) {
             return "categoryName";
@@ -930,13 +1066,6 @@ public class DeviceService {
         };
     }
 
-    private String displayUser(DeviceSummary summary) {
-        if (summary == null) {
-            return null;
-        }
-        return normalizeForFilter(summary.realUser());
-    }
-
     private record LatestApprovalSnapshot(String deviceId,
                                           DeviceApprovalAction action,
                                           ApprovalStatus status,
@@ -959,42 +1088,6 @@ public class DeviceService {
         }
     }
 
-    private record DeviceSummary(String id,
-                                 String categoryName,
-                                 String manageDepName,
-                                 String projectName,
-                                 String purpose,
-                                 java.util.Date purchaseDate,
-                                 String model,
-                                 String company,
-                                 String sn,
-                                 String status,
-                                 String description,
-                                 Long price,
-                                 String realUser) {
-
-        static DeviceSummary from(Devices device) {
-            if (device == null) {
-                return new DeviceSummary(null, null, null, null, null, null, null, null, null, null, null, null, null);
-            }
-            return new DeviceSummary(
-                    device.getId(),
-                    Optional.ofNullable(device.getCategoryId()).map(Categories::getName).orElse(null),
-                    Optional.ofNullable(device.getManageDep()).map(Departments::getName).orElse(null),
-                    Optional.ofNullable(device.getProjectId()).map(Projects::getName).orElse(null),
-                    device.getPurpose(),
-                    device.getPurchaseDate(),
-                    device.getModel(),
-                    device.getCompany(),
-                    device.getSn(),
-                    device.getStatus(),
-                    device.getDescription(),
-                    device.getPrice(),
-                    device.getRealUser()
-            );
-        }
-    }
-
     private String sortableString(String value) {
         return normalizeForFilter(value);
     }
@@ -1125,6 +1218,7 @@ public class DeviceService {
 
         device.setDescription(normalizedDescription);
         devicesRepository.save(device);
+        publishDeviceChange(device);
 
     return toDeviceDto(device);
     }
@@ -1268,6 +1362,40 @@ public class DeviceService {
     return toDeviceDto(device);
     }
 
+    /**
+     * 장비 한 대의 승인 이력을 최신순 keyset 커서로 나눠 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> findDeviceHistory(String id, String cursorToken, int size) {
+        if (!devicesRepository.existsById(id)) {
+            throw new CustomException(CustomErrorCode.DEVICE_NOT_FOUND, "Device not found: " + id);
+        }
+        int safeSize = clampSize(size);
+        DeviceHistoryCursor cursor = cursorToken == null || cursorToken.isBlank()
+                ? null
+                : DeviceHistoryCursor.decode(cursorToken);
+        if (cursor != null && !cursor.deviceId().equals(id)) {
+            throw new CustomException(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID);
+        }
+
+        List<DeviceEvent> window = deviceEventService.findPageBefore(id,
+                cursor != null ? cursor.occurredAt() : HISTORY_CURSOR_START,
+                cursor != null ? cursor.eventId() : Long.MAX_VALUE,
+                safeSize + 1);
+        boolean hasNext = window.size() > safeSize;
+        List<DeviceEvent> events = hasNext ? window.subList(0, safeSize) : window;
+        List<Map<String, Object>> content = events.stream()
+                .map(this::toHistoryDto)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            DeviceEvent last = events.get(events.size() - 1);
+            nextCursor = new DeviceHistoryCursor(id, last.getOccurredAt(), last.getId()).encode();
+        }
+        return PageResponse.ofCursor(content, safeSize, cursor == null, nextCursor, Map.of("deviceId", id));
+    }
+
     @Transactional(readOnly = true)
     public List<DeviceDto> findByIds(Collection<String> ids) {
         if (ids == null || ids.isEmpty()) {
@@ -1292,11 +1420,15 @@ public class DeviceService {
                         (left, right) -> left,
                         LinkedHashMap::new));
 
-        return normalized.stream()
+        Map<String, List<Map<String, Object>>> historyMap = buildHistoryMapByIds(deviceMap.keySet());
+        List<DeviceDto> dtos = normalized.stream()
                 .map(deviceMap::get)
                 .filter(Objects::nonNull)
-                .map(this::toDeviceDto)
+                .map(device -> buildDeviceDto(device, null,
+                        historyMap.getOrDefault(device.getId(), Collections.emptyList())))
                 .toList();
+        enrichDeviceUserProfiles(dtos);
+        return dtos;
     }
 
     @Transactional
@@ -1317,10 +1449,12 @@ public class DeviceService {
                     && request.getStatus() != ApprovalStatus.APPROVED) {
                 request.markApproved();
                 approvalRequestRepository.save(request);
+                recordApprovalChange(request, operatorUsername);
             } else if (request.getStatus() == ApprovalStatus.PENDING
                     || request.getStatus() == ApprovalStatus.IN_PROGRESS) {
                 request.markRejected();
                 approvalRequestRepository.save(request);
+                recordApprovalChange(request, operatorUsername);
             }
         });
 
@@ -1352,6 +1486,8 @@ public class DeviceService {
         device.getApprovalDetails().add(detail);
 
         approvalRequestRepository.save(disposalRequest);
+        recordApprovalChange(disposalRequest, operatorUsername);
+        publishDeviceChange(device);
 
         return new DeviceDto(device, buildHistory(deviceId));
     }
@@ -1395,6 +1531,8 @@ public class DeviceService {
         device.getApprovalDetails().add(detail);
 
         approvalRequestRepository.save(recoveryRequest);
+        recordApprovalChange(recoveryRequest, operatorUsername);
+        publishDeviceChange(device);
 
         return new DeviceDto(device, buildHistory(deviceId));
     }
@@ -1438,6 +1576,8 @@ public class DeviceService {
     device.getApprovalDetails().add(detail);
 
     approvalRequestRepository.save(returnRequest);
+    recordApprovalChange(returnRequest, operatorUsername);
+    publishDeviceChange(device);
 
     return new DeviceDto(device, buildHistory(deviceId));
     }
@@ -1528,9 +1668,29 @@ public class DeviceService {
         }
 
         devicesRepository.save(device);
+        publishDeviceChange(device);
         return new DeviceDto(device, buildHistory(id));
     }
 
+    private void publishDeviceChange(Devices device) {
+        if (device == null || device.getId() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(DeviceChangedEvent.of(List.of(device.getId())));
+    }
+
+    /**
+     * 최신 결재 행을 갱신하고 결재 변경 이벤트를 발행한다(목록/검색 갱신).
+     * 관리자 처리는 응답 이력(buildHistory)에 바로 보여야 하므로 타임라인은 커밋 전 리스너를 기다리지 않고 여기서 처리자와 함께 추가한다.
+     */
+    private void recordApprovalChange(ApprovalRequest request, String operatorUsername) {
+        deviceLatestApprovalService.record(request);
+        deviceEventService.append(request, operatorUsername);
+        if (request != null && request.getId() != null) {
+            eventPublisher.publishEvent(new ApprovalChangedEvent(request.getId()));
+        }
+    }
+
     private void rejectActiveRentalRequests(Devices device,
                                             String operatorUsername,
                                             String takeoverApplicant,
@@ -1575,6 +1735,7 @@ public class DeviceService {
             });
 
             approvalRequestRepository.save(request);
+            recordApprovalChange(request, operatorUsername);
         }
     }
 
@@ -1642,6 +1803,7 @@ public class DeviceService {
 
         detail.updateFromDevice(device);
         approvalRequestRepository.save(request);
+        recordApprovalChange(request, operatorUsername);
         return true;
     }
 
@@ -1670,6 +1832,7 @@ public class DeviceService {
         device.getApprovalDetails().add(detail);
 
         approvalRequestRepository.save(returnRequest);
+        recordApprovalChange(returnRequest, operatorUsername);
 
         device.setIsUsable(Boolean.TRUE);
         device.setRealUser(null);
@@ -1712,37 +1875,60 @@ public class DeviceService {
         device.getApprovalDetails().add(detail);
 
         approvalRequestRepository.save(rentalRequest);
+        recordApprovalChange(rentalRequest, operatorUsername);
     }
 
-    private void enrichDeviceUserProfile(Devices device, DeviceDto dto) {
-        if (device == null || dto == null) {
+    private void enrichDeviceUserProfiles(Collection<DeviceDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
             return;
         }
 
-        UUID userUuid = device.getUserUuid();
-        if (userUuid != null) {
-            commonLookupService.resolveKeycloakUserInfoById(userUuid).ifPresent(userInfo -> {
-                if (userInfo.username() != null && !userInfo.username().isBlank()) {
-                    dto.setUsername(userInfo.username());
-                }
-                if (userInfo.email() != null && !userInfo.email().isBlank()) {
-                    dto.setUserEmail(userInfo.email());
-                }
-                if ((dto.getRealUser() == null || dto.getRealUser().isBlank())
-                        && userInfo.displayName() != null && !userInfo.displayName().isBlank()) {
-                    dto.setRealUser(userInfo.displayName());
-                }
-            });
+        Map<UUID, CommonLookupService.KeycloakUserInfo> usersById = commonLookupService.resolveUsersByIds(dtos.stream()
+                .filter(Objects::nonNull)
+                .map(DeviceDto::getUserUuid)
+                .filter(Objects::nonNull)
+                .toList());
+        for (DeviceDto dto : dtos) {
+            if (dto == null || dto.getUserUuid() == null) {
+                continue;
+            }
+            CommonLookupService.KeycloakUserInfo userInfo = usersById.get(dto.getUserUuid());
+            if (userInfo == null) {
+                continue;
+            }
+            if (userInfo.username() != null && !userInfo.username().isBlank()) {
+                dto.setUsername(userInfo.username());
+            }
+            if (userInfo.email() != null && !userInfo.email().isBlank()) {
+                dto.setUserEmail(userInfo.email());
+            }
+            if ((dto.getRealUser() == null || dto.getRealUser().isBlank())
+                    && userInfo.displayName() != null && !userInfo.displayName().isBlank()) {
+                dto.setRealUser(userInfo.displayName());
+            }
         }
-        if ((dto.getUsername() == null || dto.getUsername().isBlank()) && dto.getRealUser() != null) {
-            commonLookupService.resolveKeycloakUserInfoByUsername(dto.getRealUser()).ifPresent(userInfo -> {
-                if (userInfo.username() != null && !userInfo.username().isBlank()) {
-                    dto.setUsername(userInfo.username());
-                }
-                if (userInfo.email() != null && !userInfo.email().isBlank()) {
-                    dto.setUserEmail(userInfo.email());
-                }
-            });
+
+        List<DeviceDto> unnamed = dtos.stream()
+                .filter(Objects::nonNull)
+                .filter(dto -> (dto.getUsername() == null || dto.getUsername().isBlank()) && dto.getRealUser() != null)
+                .toList();
+        if (unnamed.isEmpty()) {
+            return;
+        }
+        Map<String, CommonLookupService.KeycloakUserInfo> usersByName = commonLookupService.resolveUsersByUsernames(
+                unnamed.stream().map(DeviceDto::getRealUser).toList());
+        for (DeviceDto dto : unnamed) {
+            CommonLookupService.KeycloakUserInfo userInfo =
+                    usersByName.get(commonLookupService.normalizedUsernameKey(dto.getRealUser()));
+            if (userInfo == null) {
+                continue;
+            }
+            if (userInfo.username() != null && !userInfo.username().isBlank()) {
+                dto.setUsername(userInfo.username());
+            }
+            if (userInfo.email() != null && !userInfo.email().isBlank()) {
+                dto.setUserEmail(userInfo.email());
+            }
         }
     }
 
@@ -1846,25 +2032,7 @@ public class DeviceService {
         if (snapshot == null) {
             return Boolean.TRUE.equals(isUsable);
         }
-
-        DeviceApprovalAction action = snapshot.action();
-        ApprovalStatus status = snapshot.status();
-
-        boolean returnWaiting = action == DeviceApprovalAction.RETURN &&
-                (status == ApprovalStatus.PENDING
-                        || status == ApprovalStatus.IN_PROGRESS
-                        || status == ApprovalStatus.APPROVED
-                        || status == null);
-
-        boolean rentalPending = action == DeviceApprovalAction.RENTAL &&
-                (status == ApprovalStatus.PENDING || status == ApprovalStatus.IN_PROGRESS);
-        if (rentalPending) {
-            return false;
-        }
-
-        boolean rentalRejected = action == DeviceApprovalAction.RENTAL && status == ApprovalStatus.REJECTED;
-
-        return returnWaiting || rentalRejected || Boolean.TRUE.equals(isUsable);
+        return DeviceLatestApproval.allowsRental(isUsable, snapshot.action(), snapshot.status());
     }
 
     private Optional<DeviceApprovalDetail> findLatestDetail(Devices device) {
@@ -1914,75 +2082,72 @@ public class DeviceService {
         }
         int effectiveLimit = historyLimit <= 0 ? Integer.MAX_VALUE : historyLimit;
 
-        List<DeviceApprovalDetail> histories = deviceApprovalDetailRepository.findHistoryByDeviceIds(deviceIds);
-
-        Map<String, List<DeviceApprovalDetail>> grouped = new LinkedHashMap<>();
-        for (DeviceApprovalDetail detail : histories) {
-            if (detail == null) {
-                continue;
-            }
-            List<Devices> devices = detail.resolveDevices();
-            for (Devices device : devices) {
-                if (device == null || device.getId() == null) {
-                    continue;
-                }
-                String deviceId = device.getId();
-                if (!deviceIds.contains(deviceId)) {
-                    continue;
-                }
-                List<DeviceApprovalDetail> bucket = grouped.computeIfAbsent(deviceId, id -> new ArrayList<>());
-                if (bucket.size() >= effectiveLimit) {
-                    continue;
-                }
-                bucket.add(detail);
-            }
-        }
+        Map<String, List<DeviceEvent>> events = deviceEventService.findRecentByDeviceIds(deviceIds, effectiveLimit);
 
         Map<String, List<Map<String, Object>>> result = new LinkedHashMap<>();
         for (String deviceId : deviceIds) {
-            List<DeviceApprovalDetail> deviceDetails = grouped.get(deviceId);
-            result.put(deviceId, toHistoryDtoList(deviceDetails));
+            result.put(deviceId, events.getOrDefault(deviceId, Collections.emptyList()).stream()
+                    .map(this::toHistoryDto)
+                    .toList());
         }
         return result;
     }
 
-    private List<Map<String, Object>> toHistoryDtoList(List<DeviceApprovalDetail> histories) {
-        if (histories == null || histories.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<Map<String, Object>> historyList = new ArrayList<>();
-        for (DeviceApprovalDetail detail : histories) {
-            ApprovalRequest request = detail.getRequest();
-            if (request == null || request.getStatus() != ApprovalStatus.APPROVED) {
-                continue;
-            }
-
-            Map<String, Object> map = new HashMap<>();
+    private Map<String, Long> countHistoryByIds(Collection<String> deviceIds) {
+        List<String> ids = deviceIds.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .distinct()
+                .toList();
+        return deviceEventService.countByDeviceIds(ids);
+    }
 
-            Optional<String> requesterName = resolveRequesterDisplayName(request);
+    /**
+     * DB에서 만든 DTO에 목록 이력 모드를 적용한다. COUNT/NONE이면 이력 목록을 비워 응답에서 뺀다.
+     */
+    private DeviceDto applyHistoryMode(DeviceDto dto, DeviceHistoryMode historyMode, Map<String, Long> historyCounts) {
+        if (dto == null || historyMode == DeviceHistoryMode.FULL) {
+            return dto;
+        }
+        dto.setHistory(null);
+        if (historyMode == DeviceHistoryMode.COUNT) {
+            dto.setHistoryCount(historyCounts.getOrDefault(dto.getId(), 0L));
+        }
+        return dto;
+    }
 
-            Optional<String> operatorFromReason = extractOperatorFromReason(
-                    Optional.ofNullable(request).map(ApprovalRequest::getReason).orElse(null));
+    /**
+     * 프로젝션에 공유된 DTO는 수정하지 않고 복사본에 이력 모드를 적용한다.
+     */
+    private List<DeviceDto> withHistoryMode(List<DeviceDto> dtos, DeviceHistoryMode historyMode) {
+        if (historyMode == DeviceHistoryMode.FULL) {
+            return dtos;
+        }
+        return dtos.stream()
+                .map(dto -> {
+                    DeviceDto copy = new DeviceDto();
+                    BeanUtils.copyProperties(dto, copy);
+                    copy.setHistory(null);
+                    if (historyMode == DeviceHistoryMode.COUNT) {
+                        copy.setHistoryCount((long) Optional.ofNullable(dto.getHistory()).map(List::size).orElse(0));
+                    }
+                    return copy;
+                })
+                .toList();
+    }
 
-            map.put("username", requesterName.or(() -> operatorFromReason).orElse("알 수 없음"));
-            operatorFromReason.ifPresent(value -> map.put("operatorUsername", value));
-            map.put("reason", Optional.ofNullable(request).map(ApprovalRequest::getReason).orElse(detail.getMemo()));
-        map.put("type", Optional.ofNullable(detail.getAction()).map(DeviceApprovalAction::getDisplayName).orElse(null));
-        map.put("projectName", Optional.ofNullable(detail.getRequestedProject())
-            .map(Projects::getName)
-            .orElse(detail.resolveDevices().stream()
-                .map(Devices::getProjectId)
-                .filter(Objects::nonNull)
-                .map(Projects::getName)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null)));
-            map.put("modifiedDate", Optional.ofNullable(request).map(ApprovalRequest::getModifiedDate).orElse(null));
-            historyList.add(map);
+    private Map<String, Object> toHistoryDto(DeviceEvent event) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("username", Optional.ofNullable(event.getActorName())
+                .or(() -> Optional.ofNullable(event.getOperatorUsername()))
+                .orElse("알 수 없음"));
+        if (event.getOperatorUsername() != null) {
+            map.put("operatorUsername", event.getOperatorUsername());
         }
-
-        return historyList;
+        map.put("reason", event.getReason());
+        map.put("type", Optional.ofNullable(event.getAction()).map(DeviceApprovalAction::getDisplayName).orElse(null));
+        map.put("projectName", event.getProjectName());
+        map.put("modifiedDate", event.getOccurredAt());
+        return map;
     }
 
     private String safeDisplayName(CommonLookupService.KeycloakUserInfo userInfo) {
@@ -2028,39 +2193,4 @@ public class DeviceService {
                             "Keycloak user not found: " + operatorUsername));
         }
     }
-
-    private Optional<String> resolveRequesterDisplayName(ApprovalRequest request) {
-        if (request == null) {
-            return Optional.empty();
-        }
-        String requesterName = request.getRequesterName();
-        if (requesterName != null && !requesterName.isBlank()) {
-            return Optional.of(requesterName);
-        }
-        UUID externalId = request.getRequesterExternalId();
-        if (externalId != null) {
-            return commonLookupService.resolveKeycloakUserInfoById(externalId)
-                    .map(this::safeDisplayName)
-                    .filter(name -> name != null && !name.isBlank());
-        }
-        String requesterEmail = request.getRequesterEmail();
-        if (requesterEmail != null && !requesterEmail.isBlank()) {
-            return Optional.of(requesterEmail);
-        }
-        return Optional.empty();
-    }
-
-    private Optional<String> extractOperatorFromReason(String reason) {
-        if (reason == null || reason.isBlank()) {
-            return Optional.empty();
-        }
-        Matcher matcher = OPERATOR_SUFFIX_PATTERN.matcher(reason.trim());
-        if (matcher.find()) {
-            String username = matcher.group("username");
-            if (username != null && !username.isBlank()) {
-                return Optional.of(username.trim());
-            }
-        }
-        return Optional.empty();
-    }
 }
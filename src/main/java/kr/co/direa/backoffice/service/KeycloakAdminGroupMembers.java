@@ -0,0 +1,139 @@
+package kr.co.direa.backoffice.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static kr.co.direa.backoffice.service.KeycloakAdminTokenProvider.isBlank;
+import static kr.co.direa.backoffice.service.KeycloakAdminTokenProvider.usernameKey;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 관리자 그룹(constants.admin-group-id) 멤버 username 집합.
+ * - 그룹 멤버 API로 한 번에 읽어 메모리에 두고 주기적으로 통째로 교체
+ * - 아직 한 번도 읽지 못했다면 empty를 돌려 호출 측이 사용자별 그룹 조회로 폴백하게 한다
+ */
+@Slf4j
+@Component
+public class KeycloakAdminGroupMembers {
+    private static final int PAGE_SIZE = 500;
+    private static final Duration LOAD_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final KeycloakAdminTokenProvider keycloakAdminTokenProvider;
+    private final RestTemplate keycloakRestTemplate;
+    private final Object loadLock = new Object();
+    private volatile Set<String> memberUsernameKeys;
+    private volatile Instant lastLoadAttempt = Instant.EPOCH;
+
+    @Value("${app.keycloak.url:}")
+    private String keycloakUrl;
+    @Value("${app.keycloak.realm:}")
+    private String keycloakRealm;
+    @Value("${constants.admin-group-id:}")
+    private String keycloakAdminGroupId;
+
+    public KeycloakAdminGroupMembers(KeycloakAdminTokenProvider keycloakAdminTokenProvider,
+                                     @Qualifier("keycloakRestTemplate") RestTemplate keycloakRestTemplate) {
+        this.keycloakAdminTokenProvider = keycloakAdminTokenProvider;
+        this.keycloakRestTemplate = keycloakRestTemplate;
+    }
+
+    public Optional<Boolean> isMember(String username) {
+        if (username == null || username.isBlank()) {
+            return Optional.of(false);
+        }
+        Set<String> members = memberUsernameKeys;
+        if (members == null) {
+            members = loadOnDemand();
+        }
+        if (members == null) {
+            return Optional.empty();
+        }
+        return Optional.of(members.contains(usernameKey(username)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.keycloak.admin-group.refresh-interval:PT5M}",
+            initialDelayString = "${app.keycloak.admin-group.refresh-interval:PT5M}")
+    public void refresh() {
+        synchronized (loadLock) {
+            load();
+        }
+    }
+
+    private Set<String> loadOnDemand() {
+        synchronized (loadLock) {
+            if (memberUsernameKeys == null
+                    && Duration.between(lastLoadAttempt, Instant.now()).compareTo(LOAD_RETRY_BACKOFF) >= 0) {
+                load();
+            }
+            return memberUsernameKeys;
+        }
+    }
+
+    private void load() {
+        if (isBlank(keycloakUrl) || isBlank(keycloakRealm) || isBlank(keycloakAdminGroupId)) {
+            return;
+        }
+        lastLoadAttempt = Instant.now();
+        Set<String> loaded = new HashSet<>();
+        for (int first = 0; ; first += PAGE_SIZE) {
+            List<Map<String, Object>> page = fetchPage(first);
+            if (page == null) {
+                log.warn("Failed to load admin group members at offset {}. Keeping previous member set.", first);
+                return;
+            }
+            for (Map<String, Object> member : page) {
+                Object username = member.get("username");
+                if (username != null && !username.toString().isBlank()) {
+                    loaded.add(usernameKey(username.toString()));
+                }
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+        memberUsernameKeys = Set.copyOf(loaded);
+        log.debug("Loaded {} admin group members", loaded.size());
+    }
+
+    private List<Map<String, Object>> fetchPage(int first) {
+        String url = keycloakUrl + "/admin/realms/" + keycloakRealm + "/groups/" + keycloakAdminGroupId
+                + "/members?first=" + first + "&max=" + PAGE_SIZE + "&briefRepresentation=true";
+        try {
+            return keycloakAdminTokenProvider.exchangeWithAdminToken(token -> {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set("Authorization", "Bearer " + token);
+                headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                ResponseEntity<List<Map<String, Object>>> resp = keycloakRestTemplate.exchange(
+                        url,
+                        HttpMethod.GET,
+                        new HttpEntity<Void>(headers),
+                        new ParameterizedTypeReference<List<Map<String, Object>>>() {}
+                );
+                if (!resp.getStatusCode().is2xxSuccessful()) {
+                    return null;
+                }
+                return resp.getBody() != null ? resp.getBody() : List.<Map<String, Object>>of();
+            });
+        } catch (RuntimeException ex) {
+            log.debug("Admin group member request failed: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package kr.co.direa.backoffice.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Keycloak Admin API 호출용 access token 보관소.
+ * - expires_in 직전까지 토큰을 재사용하고, 만료 전에 백그라운드에서 미리 재발급한다.
+ * - 한동안 쓰이지 않은 토큰은 재발급하지 않고 버려, 유휴 상태에서 Keycloak을 두드리지 않는다.
+ * - Admin API 호출은 exchangeWithAdminToken으로 감싸 401이면 토큰을 버리고 한 번 다시 요청한다.
+ */
+@Slf4j
+@Component
+public class KeycloakAdminTokenProvider {
+
+    private static final Duration TOKEN_MAX_REFRESH_MARGIN = Duration.ofSeconds(30);
+    private static final Duration TOKEN_EXPIRY_SKEW = Duration.ofSeconds(5);
+    private static final Duration TOKEN_DEFAULT_TTL = Duration.ofMinutes(1);
+    private static final Duration IDLE_REFRESH_CUTOFF = Duration.ofMinutes(10);
+
+    private final Object tokenLock = new Object();
+    private final ScheduledExecutorService tokenRefreshScheduler;
+    private volatile ScheduledFuture<?> scheduledRefresh;
+    private volatile CachedToken cachedToken;
+    private volatile Instant lastAccess = Instant.EPOCH;
+
+    @Value("${app.keycloak.url:}")
+    private String keycloakUrl;
+    @Value("${app.keycloak.realm:}")
+    private String keycloakRealm;
+    @Value("${app.keycloak.admin-client-id:}")
+    private String keycloakAdminClientId;
+    @Value("${app.keycloak.admin-client-secret:}")
+    private String keycloakAdminClientSecret;
+    @Value("${constants.admin:}")
+    private String keycloakAdminUsername;
+    @Value("${constants.admin-pw:}")
+    private String keycloakAdminPassword;
+
+    private final RestTemplate keycloakRestTemplate;
+
+    public KeycloakAdminTokenProvider(@Qualifier("keycloakRestTemplate") RestTemplate keycloakRestTemplate) {
+        this.keycloakRestTemplate = keycloakRestTemplate;
+        this.tokenRefreshScheduler = Executors.newSingleThreadScheduledExecutor(buildSchedulerThreadFactory());
+    }
+
+    private ThreadFactory buildSchedulerThreadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "keycloak-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public Optional<String> getToken() {
+        lastAccess = Instant.now();
+        CachedToken snapshot = cachedToken;
+        if (snapshot != null && !snapshot.isExpired()) {
+            return Optional.of(snapshot.value);
+        }
+        synchronized (tokenLock) {
+            snapshot = cachedToken;
+            if (snapshot == null || snapshot.isExpired()) {
+                snapshot = requestNewToken().orElse(null);
+                cachedToken = snapshot;
+                scheduleTokenRefresh(snapshot);
+            }
+            return Optional.ofNullable(snapshot).map(token -> token.value);
+        }
+    }
+
+    /**
+     * 캐시된 관리자 토큰으로 Admin API를 호출한다.
+     * - 401이면 토큰을 버리고 새 토큰으로 한 번만 다시 시도
+     * - 토큰을 받을 수 없으면 IllegalStateException, 그 밖의 오류는 호출 측으로 그대로 던진다
+     */
+    public <T> T exchangeWithAdminToken(Function<String, T> call) {
+        for (int attempt = 0; ; attempt++) {
+            String token = getToken()
+                    .orElseThrow(() -> new IllegalStateException("Keycloak admin token unavailable"));
+            try {
+                return call.apply(token);
+            } catch (HttpClientErrorException.Unauthorized unauthorized) {
+                invalidate(token);
+                log.debug("Keycloak admin token rejected (attempt {}).", attempt + 1);
+                if (attempt > 0) {
+                    throw unauthorized;
+                }
+            }
+        }
+    }
+
+    /**
+     * Keycloak username 비교/캐시 키. 앞뒤 공백을 자르고 소문자로 맞춘다.
+     */
+    public static String usernameKey(String username) {
+        return username == null ? null : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+
+    /**
+     * 401을 받은 토큰을 버린다. 이미 다른 스레드가 새 토큰으로 바꿨다면 아무것도 하지 않는다.
+     */
+    public void invalidate(String token) {
+        if (token == null) {
+            return;
+        }
+        CachedToken snapshot = cachedToken;
+        if (snapshot == null || !token.equals(snapshot.value)) {
+            return;
+        }
+        synchronized (tokenLock) {
+            if (cachedToken != null && token.equals(cachedToken.value)) {
+                cachedToken = null;
+                cancelScheduledRefresh();
+            }
+        }
+    }
+
+    private Optional<CachedToken> requestNewToken() {
+        if (isBlank(keycloakUrl) || isBlank(keycloakRealm) || isBlank(keycloakAdminClientId)) {
+            return Optional.empty();
+        }
+        try {
+            String url = keycloakUrl + "/realms/" + keycloakRealm + "/protocol/openid-connect/token";
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+            boolean usingPasswordGrant = !isBlank(keycloakAdminUsername) && !isBlank(keycloakAdminPassword);
+            if (usingPasswordGrant) {
+                form.add("grant_type", "password");
+                form.add("client_id", keycloakAdminClientId);
+                form.add("username", keycloakAdminUsername);
+                form.add("password", keycloakAdminPassword);
+            } else {
+                if (isBlank(keycloakAdminClientSecret)) {
+                    return Optional.empty();
+                }
+                form.add("grant_type", "client_credentials");
+                form.add("client_id", keycloakAdminClientId);
+                form.add("client_secret", keycloakAdminClientSecret);
+            }
+
+            HttpEntity<MultiValueMap<String, String>> req = new HttpEntity<>(form, headers);
+            ResponseEntity<Map<String, Object>> resp = keycloakRestTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    req,
+                    new ParameterizedTypeReference<Map<String, Object>>() {}
+            );
+            Map<String, Object> body = resp.getBody();
+            if (!resp.getStatusCode().is2xxSuccessful() || body == null) {
+                return Optional.empty();
+            }
+            Object token = body.get("access_token");
+            if (token == null || token.toString().isBlank()) {
+                return Optional.empty();
+            }
+            Duration ttl = parseExpiresIn(body.get("expires_in"));
+            Instant issuedAt = Instant.now();
+            log.debug("Issued new Keycloak admin token valid for {}", ttl);
+            return Optional.of(new CachedToken(token.toString(), issuedAt, issuedAt.plus(ttl)));
+        } catch (Exception ex) {
+            log.warn("Failed to issue Keycloak admin token: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Duration parseExpiresIn(Object expiresIn) {
+        if (expiresIn instanceof Number number && number.longValue() > 0) {
+            return Duration.ofSeconds(number.longValue());
+        }
+        if (expiresIn != null) {
+            try {
+                long seconds = Long.parseLong(expiresIn.toString().trim());
+                if (seconds > 0) {
+                    return Duration.ofSeconds(seconds);
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return TOKEN_DEFAULT_TTL;
+    }
+
+    private void scheduleTokenRefresh(CachedToken token) {
+        cancelScheduledRefresh();
+        if (token == null) {
+            return;
+        }
+        Instant refreshInstant = token.expiresAt.minus(token.refreshMargin());
+        long delayMillis = Duration.between(Instant.now(), refreshInstant).toMillis();
+        if (delayMillis <= 0) {
+            return;
+        }
+        scheduledRefresh = tokenRefreshScheduler.schedule(this::refreshTokenSilently, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelScheduledRefresh() {
+        ScheduledFuture<?> future = scheduledRefresh;
+        if (future != null) {
+            future.cancel(false);
+            scheduledRefresh = null;
+        }
+    }
+
+    private void refreshTokenSilently() {
+        synchronized (tokenLock) {
+            scheduledRefresh = null;
+            if (Duration.between(lastAccess, Instant.now()).compareTo(IDLE_REFRESH_CUTOFF) > 0) {
+                log.debug("Keycloak admin token idle. Skipping proactive refresh.");
+                return;
+            }
+            CachedToken refreshed = requestNewToken().orElse(null);
+            if (refreshed == null) {
+                log.warn("Failed to proactively refresh Keycloak admin token. It will be refreshed on demand.");
+                return;
+            }
+            cachedToken = refreshed;
+            scheduleTokenRefresh(refreshed);
+            log.debug("Proactively refreshed Keycloak admin token");
+        }
+    }
+
+    @PreDestroy
+    private void shutdownScheduler() {
+        synchronized (tokenLock) {
+            cancelScheduledRefresh();
+        }
+        tokenRefreshScheduler.shutdownNow();
+    }
+
+    private static final class CachedToken {
+        private final String value;
+        private final Instant issuedAt;
+        private final Instant expiresAt;
+
+        private CachedToken(String value, Instant issuedAt, Instant expiresAt) {
+            this.value = value;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return Instant.now().isAfter(expiresAt.minus(TOKEN_EXPIRY_SKEW));
+        }
+
+        /**
+         * Keycloak admin 토큰은 기본 수명이 1분 남짓이라 고정 여유 시간 대신 수명의 1/5(최대 30초)을 쓴다.
+         */
+        private Duration refreshMargin() {
+            Duration fifth = Duration.between(issuedAt, expiresAt).dividedBy(5);
+            return fifth.compareTo(TOKEN_MAX_REFRESH_MARGIN) < 0 ? fifth : TOKEN_MAX_REFRESH_MARGIN;
+        }
+    }
+}
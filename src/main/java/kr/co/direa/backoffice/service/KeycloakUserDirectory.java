@@ -0,0 +1,239 @@
+package kr.co.direa.backoffice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static kr.co.direa.backoffice.service.KeycloakAdminTokenProvider.isBlank;
+import static kr.co.direa.backoffice.service.KeycloakAdminTokenProvider.usernameKey;
+
+import kr.co.direa.backoffice.domain.KeycloakUser;
+import kr.co.direa.backoffice.repository.KeycloakUserRepository;
+import kr.co.direa.backoffice.service.CommonLookupService.KeycloakUserInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Keycloak 사용자 디렉터리 로컬 미러.
+ * - 기동 시 keycloak_users 테이블을 메모리 인덱스로 올리고, 주기적으로 /users 전체를 페이지 단위로 읽어 차이만 반영
+ * - 전체 페이지를 끝까지 읽은 경우에만 사라진 사용자를 지운다(중간 실패 시 기존 데이터 유지)
+ * - 조회는 메모리 인덱스만 보고, 없으면 호출 측(CommonLookupService)이 Admin API로 폴백한다
+ */
+@Slf4j
+@Component
+public class KeycloakUserDirectory {
+    private static final int PAGE_SIZE = 200;
+
+    private final KeycloakUserRepository keycloakUserRepository;
+    private final KeycloakAdminTokenProvider keycloakAdminTokenProvider;
+    private final RestTemplate keycloakRestTemplate;
+    private final CacheManager cacheManager;
+
+    private final Map<UUID, KeycloakUserInfo> usersById = new ConcurrentHashMap<>();
+    private final Map<String, KeycloakUserInfo> usersByUsernameKey = new ConcurrentHashMap<>();
+    private final AtomicBoolean syncing = new AtomicBoolean();
+
+    @Value("${app.keycloak.url:}")
+    private String keycloakUrl;
+    @Value("${app.keycloak.realm:}")
+    private String keycloakRealm;
+    @Value("${app.keycloak.directory.enabled:true}")
+    private boolean enabled;
+
+    public KeycloakUserDirectory(KeycloakUserRepository keycloakUserRepository,
+                                 KeycloakAdminTokenProvider keycloakAdminTokenProvider,
+                                 @Qualifier("keycloakRestTemplate") RestTemplate keycloakRestTemplate,
+                                 CacheManager cacheManager) {
+        this.keycloakUserRepository = keycloakUserRepository;
+        this.keycloakAdminTokenProvider = keycloakAdminTokenProvider;
+        this.keycloakRestTemplate = keycloakRestTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    public Optional<KeycloakUserInfo> findById(UUID userId) {
+        if (!enabled || userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(usersById.get(userId));
+    }
+
+    public Optional<KeycloakUserInfo> findByUsername(String username) {
+        if (!enabled || username == null || username.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(usersByUsernameKey.get(usernameKey(username)));
+    }
+
+    /**
+     * Admin API 폴백으로 찾은 사용자를 다음 동기화 전까지 메모리 인덱스에 둔다.
+     */
+    public void remember(KeycloakUserInfo info) {
+        if (enabled && info != null && info.id() != null) {
+            index(info);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        if (!enabled) {
+            return;
+        }
+        List<KeycloakUser> stored = keycloakUserRepository.findAll();
+        stored.forEach(user -> index(toUserInfo(user)));
+        log.info("Keycloak user directory loaded {} users from keycloak_users", stored.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.keycloak.directory.sync-interval:PT15M}",
+            initialDelayString = "${app.keycloak.directory.initial-delay:PT30S}")
+    public void sync() {
+        if (!enabled || isBlank(keycloakUrl) || isBlank(keycloakRealm)) {
+            return;
+        }
+        if (!syncing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            syncAll();
+        } catch (Exception ex) {
+            log.warn("Keycloak user directory sync failed: {}", ex.getMessage());
+        } finally {
+            syncing.set(false);
+        }
+    }
+
+    private void syncAll() {
+        Map<UUID, KeycloakUser> stored = new HashMap<>();
+        keycloakUserRepository.findAll().forEach(user -> stored.put(user.getId(), user));
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<UUID> seen = new HashSet<>();
+        List<KeycloakUser> changed = new ArrayList<>();
+        Set<String> staleUsernameKeys = new HashSet<>();
+        for (int first = 0; ; first += PAGE_SIZE) {
+            List<Map<String, Object>> page = fetchPage(first);
+            if (page == null) {
+                log.warn("Keycloak user directory sync aborted at offset {}", first);
+                return;
+            }
+            for (Map<String, Object> representation : page) {
+                KeycloakUserInfo info = CommonLookupService.toUserInfo(representation, null, null);
+                if (info == null || info.id() == null || !seen.add(info.id())) {
+                    continue;
+                }
+                KeycloakUser row = stored.get(info.id());
+                if (row == null) {
+                    row = KeycloakUser.of(info.id());
+                }
+                String previousKey = row.getUsernameKey();
+                if (row.update(info.username(), usernameKey(info.username()), info.email(), info.displayName(), now)) {
+                    changed.add(row);
+                    if (previousKey != null) {
+                        staleUsernameKeys.add(previousKey);
+                    }
+                }
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            keycloakUserRepository.saveAll(changed);
+        }
+        List<KeycloakUser> removed = stored.values().stream()
+                .filter(user -> !seen.contains(user.getId()))
+                .toList();
+        if (!removed.isEmpty()) {
+            keycloakUserRepository.deleteAllByIdInBatch(removed.stream().map(KeycloakUser::getId).toList());
+        }
+
+        // 폴백으로 기억해 둔 사용자도 이번 전체 목록에 없으면 함께 내린다.
+        usersById.keySet().retainAll(seen);
+        usersByUsernameKey.values().removeIf(info -> !seen.contains(info.id()));
+        staleUsernameKeys.forEach(usersByUsernameKey::remove);
+        changed.forEach(user -> index(toUserInfo(user)));
+        evictLookupCaches(changed, removed, staleUsernameKeys);
+        log.info("Keycloak user directory synced: total={}, changed={}, removed={}",
+                seen.size(), changed.size(), removed.size());
+    }
+
+    /**
+     * 한 페이지를 읽는다. 401 재시도는 exchangeWithAdminToken이 하고, 그 밖의 실패는 예외로 sync를 중단시킨다.
+     */
+    private List<Map<String, Object>> fetchPage(int first) {
+        String url = keycloakUrl + "/admin/realms/" + keycloakRealm
+                + "/users?first=" + first + "&max=" + PAGE_SIZE + "&briefRepresentation=false";
+        return keycloakAdminTokenProvider.exchangeWithAdminToken(token -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + token);
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+            ResponseEntity<List<Map<String, Object>>> resp = keycloakRestTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    new HttpEntity<Void>(headers),
+                    new ParameterizedTypeReference<List<Map<String, Object>>>() {}
+            );
+            if (!resp.getStatusCode().is2xxSuccessful()) {
+                return null;
+            }
+            return resp.getBody() != null ? resp.getBody() : List.<Map<String, Object>>of();
+        });
+    }
+
+    private void evictLookupCaches(List<KeycloakUser> changed, List<KeycloakUser> removed, Set<String> staleUsernameKeys) {
+        Cache byId = cacheManager.getCache(CommonLookupService.CACHE_KEYCLOAK_USER_INFO_BY_ID);
+        Cache byUsername = cacheManager.getCache(CommonLookupService.CACHE_KEYCLOAK_USER_INFO_BY_USERNAME);
+        List<KeycloakUser> touched = new ArrayList<>(changed);
+        touched.addAll(removed);
+        for (KeycloakUser user : touched) {
+            if (byId != null) {
+                byId.evict(user.getId());
+            }
+            if (byUsername != null && user.getUsernameKey() != null) {
+                byUsername.evict(user.getUsernameKey());
+            }
+        }
+        if (byUsername != null) {
+            staleUsernameKeys.forEach(byUsername::evict);
+        }
+    }
+
+    private void index(KeycloakUserInfo info) {
+        KeycloakUserInfo previous = usersById.put(info.id(), info);
+        if (previous != null && previous.username() != null) {
+            String previousKey = usernameKey(previous.username());
+            if (!previousKey.equals(usernameKey(info.username()))) {
+                usersByUsernameKey.remove(previousKey, previous);
+            }
+        }
+        if (info.username() != null && !info.username().isBlank()) {
+            usersByUsernameKey.put(usernameKey(info.username()), info);
+        }
+    }
+
+    private KeycloakUserInfo toUserInfo(KeycloakUser user) {
+        return new KeycloakUserInfo(user.getId(), user.getUsername(), user.getEmail(), user.getDisplayName());
+    }
+}
@@ -0,0 +1,84 @@
+package kr.co.direa.backoffice.service;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 한글 정렬용 CollationKey 공유 캐시.
+ * - 서로 다른 문자열마다 한 번만 정렬 키를 만들고, 이후 비교는 키 비교로 끝낸다.
+ * - 장비/결재 화면의 값 종류는 많지 않으므로 상한을 넘으면 통째로 비운다.
+ */
+@Component
+public class KoreanCollationKeys {
+
+    private static final int MAX_ENTRIES = 50_000;
+
+    private final Collator collator;
+    private final Map<String, CollationKey> keys = new ConcurrentHashMap<>();
+    private final Comparator<String> comparator = (left, right) -> keyOf(left).compareTo(keyOf(right));
+
+    public KoreanCollationKeys() {
+        Collator instance = Collator.getInstance(Locale.KOREAN);
+        instance.setStrength(Collator.PRIMARY);
+        this.collator = instance;
+    }
+
+    public CollationKey keyOf(String value) {
+        CollationKey key = keys.get(value);
+        if (key != null) {
+            return key;
+        }
+        if (keys.size() >= MAX_ENTRIES) {
+            keys.clear();
+        }
+        // RuleBasedCollator.getCollationKey는 내부적으로 동기화되어 있다.
+        return keys.computeIfAbsent(value, collator::getCollationKey);
+    }
+
+    /**
+     * null이 아닌 문자열을 캐시된 정렬 키로 비교한다. null 처리는 호출 측에서 Comparator.nullsLast 등으로 감싼다.
+     */
+    public Comparator<String> comparator() {
+        return comparator;
+    }
+
+    public List<String> sorted(Collection<String> values) {
+        List<CollationKey> decorated = new ArrayList<>(values.size());
+        for (String value : values) {
+            decorated.add(keyOf(value));
+        }
+        decorated.sort(null);
+        List<String> result = new ArrayList<>(decorated.size());
+        for (CollationKey key : decorated) {
+            result.add(key.getSourceString());
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * 공백을 제거한 값 중 정렬 기준으로 같은 값은 하나만 남긴다(TreeSet(collator)와 같은 의미).
+     */
+    public List<String> sortedDistinct(Collection<String> values) {
+        Map<CollationKey, String> unique = new TreeMap<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                unique.putIfAbsent(keyOf(trimmed), trimmed);
+            }
+        }
+        return List.copyOf(unique.values());
+    }
+}
@@ -5,6 +5,7 @@ import kr.co.direa.backoffice.exception.CustomException;
 import kr.co.direa.backoffice.exception.code.CustomErrorCode;
 import kr.co.direa.backoffice.repository.ProjectsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProjectService {
     private final ProjectsRepository projectsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ProjectDto> findAll() {
         return projectsRepository.findAllByOrderByCodeAsc()
@@ -63,6 +65,7 @@ public class ProjectService {
                 .build();
         // JPA 엔티티 교체 대신 편의상 빌더로 새로 생성 후 save (간단한 테이블이므로 충분)
         var saved = projectsRepository.save(entity);
+        eventPublisher.publishEvent(DeviceChangedEvent.all());
         return new ProjectDto(saved);
     }
 
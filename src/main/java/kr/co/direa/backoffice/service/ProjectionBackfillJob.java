@@ -0,0 +1,86 @@
+package kr.co.direa.backoffice.service;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.repository.ApprovalListViewRepository;
+import kr.co.direa.backoffice.repository.DevicesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회용 테이블 최초 백필.
+ * - 순서: device_latest_approval → device_events → approval_list_view
+ * - 각 단계는 아직 채워지지 않은 대상만 골라 청크 단위로 채우므로, 한 번 채워진 뒤에는 조회 한 번으로 끝난다
+ * - 카운터 재계산(DeviceAvailabilityCounterService.reconcile)보다 먼저 실행된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectionBackfillJob {
+    private static final int CHUNK_SIZE = 500;
+
+    private final DevicesRepository devicesRepository;
+    private final ApprovalListViewRepository approvalListViewRepository;
+    private final DeviceLatestApprovalService deviceLatestApprovalService;
+    private final DeviceEventService deviceEventService;
+    private final ApprovalListViewService approvalListViewService;
+
+    @Value("${app.devices.latest-approval.backfill-on-startup:true}")
+    private boolean latestApprovalBackfillOnStartup;
+    @Value("${app.devices.events.backfill-on-startup:true}")
+    private boolean deviceEventBackfillOnStartup;
+    @Value("${app.approval.list-view.backfill-on-startup:true}")
+    private boolean approvalListViewBackfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillOnStartup() {
+        if (latestApprovalBackfillOnStartup) {
+            backfillInChunks("Latest approval",
+                    devicesRepository::findIdsMissingLatestApproval,
+                    deviceLatestApprovalService::backfill);
+        }
+        if (deviceEventBackfillOnStartup) {
+            backfillInChunks("Device event",
+                    () -> devicesRepository.findIdsMissingDeviceEvents(ApprovalStatus.APPROVED.name()),
+                    deviceEventService::backfill);
+        }
+        if (approvalListViewBackfillOnStartup) {
+            backfillInChunks("Approval list view",
+                    approvalListViewRepository::findApprovalIdsMissingView,
+                    approvalListViewService::backfill);
+        }
+    }
+
+    /**
+     * 대상 ID를 청크로 나눠 채운다. 실패한 청크는 건너뛰고 다음 기동 때 다시 대상이 된다.
+     */
+    private <K> void backfillInChunks(String name,
+                                      Supplier<List<K>> missingIds,
+                                      Function<List<K>, Integer> backfill) {
+        List<K> candidates = missingIds.get();
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < candidates.size(); from += CHUNK_SIZE) {
+            List<K> chunk = candidates.subList(from, Math.min(from + CHUNK_SIZE, candidates.size()));
+            try {
+                inserted += backfill.apply(chunk);
+            } catch (RuntimeException ex) {
+                log.warn("{} backfill failed for chunk starting at {}: {}", name, from, ex.getMessage());
+            }
+        }
+        log.info("{} backfill completed: candidates={}, inserted={}", name, candidates.size(), inserted);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class TagsService {
     private final DevicesRepository devicesRepository;
     private final TagsRepository tagsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void replaceDeviceTags(String deviceId, List<String> tagNames) {
@@ -45,6 +47,7 @@ public class TagsService {
 
         if (sanitized.isEmpty()) {
             devicesRepository.save(device);
+            eventPublisher.publishEvent(DeviceChangedEvent.of(List.of(device.getId())));
             return;
         }
 
@@ -59,6 +62,7 @@ public class TagsService {
         }
 
         devicesRepository.save(device);
+        eventPublisher.publishEvent(DeviceChangedEvent.of(List.of(device.getId())));
     }
 
     @Transactional(readOnly = true)
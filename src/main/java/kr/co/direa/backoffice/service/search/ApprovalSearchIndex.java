@@ -0,0 +1,152 @@
+package kr.co.direa.backoffice.service.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import kr.co.direa.backoffice.domain.ApprovalRequest;
+import kr.co.direa.backoffice.domain.enums.ApprovalCategory;
+import kr.co.direa.backoffice.dto.ApprovalDeviceDto;
+import kr.co.direa.backoffice.dto.ApproverDto;
+import kr.co.direa.backoffice.repository.ApprovalRequestRepository;
+import kr.co.direa.backoffice.service.ApprovalChangedEvent;
+import kr.co.direa.backoffice.service.DeviceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 장비 결재 키워드 검색 색인(초성/입력 중 낱자 포함).
+ * 필드 구성은 ApprovalDeviceService#matchesKeyword와 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalSearchIndex {
+    public static final String FIELD_APPROVAL_ID = "approvalId";
+    public static final String FIELD_CATEGORY_NAME = "categoryName";
+    public static final String FIELD_USER_NAME = "userName";
+    public static final String FIELD_DEVICE_ID = "deviceId";
+    public static final String FIELD_APPROVAL_INFO = "approvalInfo";
+    public static final String FIELD_APPROVER_NAME = "approverName";
+
+    private final ApprovalRequestRepository approvalRequestRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final HangulSearchIndex<Long> index = new HangulSearchIndex<>();
+    private final Object buildLock = new Object();
+    private volatile boolean built;
+
+    @Value("${app.approval.search-index.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 키워드를 포함하는 결재 ID. 색인을 쓸 수 없으면 Optional.empty().
+     */
+    @Transactional(readOnly = true)
+    public Optional<Set<Long>> matchApprovalIds(String keyword, Collection<String> fields) {
+        if (!enabled || keyword == null || keyword.isBlank() || fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        ensureBuilt();
+        return Optional.of(index.search(keyword, fields));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onApprovalChanged(ApprovalChangedEvent event) {
+        if (event == null || event.approvalId() == null) {
+            return;
+        }
+        synchronized (buildLock) {
+            if (!built) {
+                return;
+            }
+            try {
+                Optional<ApprovalRequest> approval = approvalRequestRepository.findById(event.approvalId())
+                        .filter(request -> request.getCategory() == ApprovalCategory.DEVICE);
+                if (approval.isPresent()) {
+                    index.put(event.approvalId(), toFields(new ApprovalDeviceDto(approval.get())));
+                } else {
+                    index.remove(event.approvalId());
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to refresh approval search index for {}: {}", event.approvalId(), ex.getMessage());
+                built = false;
+                index.clear();
+            }
+        }
+    }
+
+    /**
+     * 카테고리/프로젝트/부서 이름 변경처럼 여러 결재의 표시 값이 바뀌면 다음 검색 때 다시 빌드한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDevicesChanged(DeviceChangedEvent event) {
+        if (event == null || !event.allDevices()) {
+            return;
+        }
+        synchronized (buildLock) {
+            built = false;
+            index.clear();
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (buildLock) {
+            if (built) {
+                return;
+            }
+            // 호출자의 읽기 트랜잭션 스냅샷은 빌드 전에 커밋된 변경(리스너가 미빌드로 건너뛴 것)을 못 볼 수 있어 새 트랜잭션에서 읽는다.
+            index.clear();
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                for (ApprovalRequest request : approvalRequestRepository.findByCategoryOrderBySubmittedAtDesc(ApprovalCategory.DEVICE)) {
+                    if (request != null && request.getId() != null) {
+                        index.put(request.getId(), toFields(new ApprovalDeviceDto(request)));
+                    }
+                }
+            });
+            built = true;
+            log.debug("Approval search index built: documents={}", index.size());
+        }
+    }
+
+    private Map<String, List<String>> toFields(ApprovalDeviceDto dto) {
+        Map<String, List<String>> fields = new HashMap<>();
+        fields.put(FIELD_APPROVAL_ID, List.of(String.valueOf(dto.getApprovalId())));
+        putField(fields, FIELD_CATEGORY_NAME, dto.getCategoryName());
+        putField(fields, FIELD_USER_NAME, dto.getUserName());
+        putField(fields, FIELD_DEVICE_ID, dto.getDeviceId());
+        String approvalInfo = ((dto.getType() == null ? "" : dto.getType()) + " "
+                + (dto.getApprovalInfo() == null ? "" : dto.getApprovalInfo())).trim();
+        putField(fields, FIELD_APPROVAL_INFO, approvalInfo);
+        fields.put(FIELD_APPROVER_NAME, dto.getApprovers().stream()
+                .map(ApproverDto::getUsername)
+                .filter(Objects::nonNull)
+                .toList());
+        return fields;
+    }
+
+    private void putField(Map<String, List<String>> fields, String field, String value) {
+        if (value != null) {
+            fields.put(field, List.of(value));
+        }
+    }
+}
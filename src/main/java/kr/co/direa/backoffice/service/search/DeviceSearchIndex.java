@@ -0,0 +1,187 @@
+package kr.co.direa.backoffice.service.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import kr.co.direa.backoffice.domain.Categories;
+import kr.co.direa.backoffice.domain.Departments;
+import kr.co.direa.backoffice.domain.DeviceTag;
+import kr.co.direa.backoffice.domain.Devices;
+import kr.co.direa.backoffice.domain.Projects;
+import kr.co.direa.backoffice.domain.Tags;
+import kr.co.direa.backoffice.repository.DevicesRepository;
+import kr.co.direa.backoffice.service.DeviceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 장비 키워드 검색 색인.
+ * - 최초 검색 시 전체 장비로 빌드하고, 커밋된 장비 변경분만 다시 색인한다.
+ * - 초성("ㄴㅌㅂ")/입력 중 낱자("노트ㅂ") 검색은 HangulSearchIndex가 처리한다.
+ * - 결과가 너무 많으면(IN 절이 커지면) 색인을 쓰지 않고 기존 LIKE 조건으로 조회하도록 빈 값을 돌려준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceSearchIndex {
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_CATEGORY_NAME = "categoryName";
+    public static final String FIELD_MANAGE_DEP_NAME = "manageDepName";
+    public static final String FIELD_PROJECT_NAME = "projectName";
+    public static final String FIELD_PURPOSE = "purpose";
+    public static final String FIELD_COMPANY = "company";
+    public static final String FIELD_MODEL = "model";
+    public static final String FIELD_DESCRIPTION = "description";
+    public static final String FIELD_SN = "sn";
+    public static final String FIELD_STATUS = "status";
+    public static final String FIELD_USERNAME = "username";
+    public static final String FIELD_TAGS = "tags";
+
+    private final DevicesRepository devicesRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final HangulSearchIndex<String> index = new HangulSearchIndex<>();
+    private final Object buildLock = new Object();
+    private volatile boolean built;
+
+    @Value("${app.devices.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.devices.search-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    /**
+     * 키워드를 포함하는 장비 ID(DB IN 조건용). 색인을 쓸 수 없거나 후보가 max-candidates를 넘으면 Optional.empty().
+     */
+    @Transactional(readOnly = true)
+    public Optional<Set<String>> findDeviceIds(String keyword, Collection<String> fields) {
+        return search(keyword, fields).filter(ids -> ids.size() <= maxCandidates);
+    }
+
+    /**
+     * 키워드를 포함하는 장비 ID(메모리 필터용, 후보 수 제한 없음). 색인을 쓸 수 없으면 Optional.empty().
+     */
+    @Transactional(readOnly = true)
+    public Optional<Set<String>> matchDeviceIds(String keyword, Collection<String> fields) {
+        return search(keyword, fields);
+    }
+
+    private Optional<Set<String>> search(String keyword, Collection<String> fields) {
+        if (!enabled || keyword == null || keyword.isBlank() || fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        ensureBuilt();
+        return Optional.of(index.search(keyword, fields));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onDevicesChanged(DeviceChangedEvent event) {
+        if (event == null || event.isEmpty()) {
+            return;
+        }
+        // 빌드 중에 커밋된 변경은 빌드가 끝난 뒤 이 자리에서 다시 반영된다.
+        synchronized (buildLock) {
+            if (!built) {
+                return;
+            }
+            if (event.allDevices()) {
+                invalidate();
+                return;
+            }
+            try {
+                Map<String, Devices> devices = new HashMap<>();
+                for (Devices device : devicesRepository.findAllForSearchIndexByIdIn(event.deviceIds())) {
+                    devices.put(device.getId(), device);
+                }
+                for (String deviceId : event.deviceIds()) {
+                    Devices device = devices.get(deviceId);
+                    if (device == null) {
+                        index.remove(deviceId);
+                    } else {
+                        index.put(deviceId, toFields(device));
+                    }
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to refresh device search index for {}: {}", event.deviceIds(), ex.getMessage());
+                invalidate();
+            }
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (buildLock) {
+            if (built) {
+                return;
+            }
+            // 호출자의 읽기 트랜잭션 스냅샷은 빌드 전에 커밋된 변경(리스너가 미빌드로 건너뛴 것)을 못 볼 수 있어 새 트랜잭션에서 읽는다.
+            index.clear();
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                for (Devices device : devicesRepository.findAllForSearchIndex()) {
+                    if (device != null && device.getId() != null) {
+                        index.put(device.getId(), toFields(device));
+                    }
+                }
+            });
+            built = true;
+            log.debug("Device search index built: documents={}", index.size());
+        }
+    }
+
+    private void invalidate() {
+        synchronized (buildLock) {
+            built = false;
+            index.clear();
+        }
+    }
+
+    private Map<String, List<String>> toFields(Devices device) {
+        Map<String, List<String>> fields = new HashMap<>();
+        putField(fields, FIELD_ID, device.getId());
+        putField(fields, FIELD_CATEGORY_NAME, Optional.ofNullable(device.getCategoryId()).map(Categories::getName).orElse(null));
+        putField(fields, FIELD_MANAGE_DEP_NAME, Optional.ofNullable(device.getManageDep()).map(Departments::getName).orElse(null));
+        putField(fields, FIELD_PROJECT_NAME, Optional.ofNullable(device.getProjectId()).map(Projects::getName).orElse(null));
+        putField(fields, FIELD_PURPOSE, device.getPurpose());
+        putField(fields, FIELD_COMPANY, device.getCompany());
+        putField(fields, FIELD_MODEL, device.getModel());
+        putField(fields, FIELD_DESCRIPTION, device.getDescription());
+        putField(fields, FIELD_SN, device.getSn());
+        putField(fields, FIELD_STATUS, device.getStatus());
+        putField(fields, FIELD_USERNAME, device.getRealUser() != null ? device.getRealUser().trim() : null);
+        if (device.getDeviceTags() != null) {
+            fields.put(FIELD_TAGS, device.getDeviceTags().stream()
+                    .filter(Objects::nonNull)
+                    .map(DeviceTag::getTag)
+                    .filter(Objects::nonNull)
+                    .map(Tags::getName)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
+        return fields;
+    }
+
+    private void putField(Map<String, List<String>> fields, String field, String value) {
+        if (value != null) {
+            fields.put(field, List.of(value));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package kr.co.direa.backoffice.service.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 입력 중 검색을 지원하는 n-gram 색인.
+ * - 원문 부분 문자열 검색(LIKE와 동일)에 더해, 색인 시점에 계산한 자모/초성 분해 값을 함께 저장한다.
+ * - 초성만 입력한 검색어("ㄴㅌㅂ")는 초성 색인, 낱자가 섞인 검색어("노트ㅂ")는 자모 색인으로도 찾는다.
+ * - 완성된 글자로만 된 검색어는 원문 검색 결과만 돌려준다.
+ * 요청 시에는 검색어만 분해하며, 문서는 다시 분해하지 않는다.
+ */
+public class HangulSearchIndex<K> {
+    private static final int CHOSEONG_GRAM_SIZE = 2;
+
+    private final NGramIndex<K> textIndex = new NGramIndex<>();
+    private final NGramIndex<K> jamoIndex = new NGramIndex<>();
+    private final NGramIndex<K> choseongIndex = new NGramIndex<>(CHOSEONG_GRAM_SIZE);
+
+    public void put(K key, Map<String, ? extends Collection<String>> fields) {
+        Map<String, List<String>> jamoFields = new HashMap<>();
+        Map<String, List<String>> choseongFields = new HashMap<>();
+        if (fields != null) {
+            fields.forEach((field, values) -> {
+                if (values == null) {
+                    return;
+                }
+                List<String> hangulValues = values.stream()
+                        .filter(HangulText::containsHangul)
+                        .toList();
+                if (!hangulValues.isEmpty()) {
+                    jamoFields.put(field, hangulValues.stream().map(HangulText::toJamo).toList());
+                    choseongFields.put(field, hangulValues.stream().map(HangulText::toChoseong).toList());
+                }
+            });
+        }
+        textIndex.put(key, fields);
+        if (jamoFields.isEmpty()) {
+            jamoIndex.remove(key);
+            choseongIndex.remove(key);
+        } else {
+            jamoIndex.put(key, jamoFields);
+            choseongIndex.put(key, choseongFields);
+        }
+    }
+
+    public void remove(K key) {
+        textIndex.remove(key);
+        jamoIndex.remove(key);
+        choseongIndex.remove(key);
+    }
+
+    public void clear() {
+        textIndex.clear();
+        jamoIndex.clear();
+        choseongIndex.clear();
+    }
+
+    public int size() {
+        return textIndex.size();
+    }
+
+    public Set<K> search(String query, Collection<String> fieldNames) {
+        Set<K> matches = new LinkedHashSet<>(textIndex.search(query, fieldNames));
+        if (HangulText.isChoseongQuery(query)) {
+            matches.addAll(choseongIndex.search(query, fieldNames));
+        } else if (HangulText.containsCompatibilityJamo(query)) {
+            matches.addAll(jamoIndex.search(HangulText.toJamo(query), fieldNames));
+        }
+        return matches;
+    }
+}
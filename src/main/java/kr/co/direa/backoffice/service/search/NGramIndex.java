@@ -0,0 +1,201 @@
+package kr.co.direa.backoffice.service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열(LIKE '%kw%') 검색용 메모리 n-gram 역색인(기본 3-gram).
+ * - 문서는 키와 필드별 값 목록으로 저장하며, 값은 소문자로 정규화한다.
+ * - 검색어의 n-gram 포스팅을 교집합해 후보를 좁힌 뒤 원문 포함 여부로 다시 확인하므로 결과는 LIKE와 같다.
+ * - n글자 미만 검색어도 전체 문서를 훑지 않도록 1~(n-1)글자 gram 포스팅을 함께 색인하고, 검색어 자체를 gram으로 찾는다.
+ */
+public class NGramIndex<K> {
+    private static final int DEFAULT_GRAM_SIZE = 3;
+
+    private final int gramSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Map<String, List<String>>> documents = new HashMap<>();
+    private final Map<String, Set<K>> postings = new HashMap<>();
+
+    public NGramIndex() {
+        this(DEFAULT_GRAM_SIZE);
+    }
+
+    public NGramIndex(int gramSize) {
+        if (gramSize < 1) {
+            throw new IllegalArgumentException("gramSize must be positive");
+        }
+        this.gramSize = gramSize;
+    }
+
+    public void put(K key, Map<String, ? extends Collection<String>> fields) {
+        Objects.requireNonNull(key, "key");
+        Map<String, List<String>> normalized = new HashMap<>();
+        if (fields != null) {
+            fields.forEach((field, values) -> {
+                List<String> lowered = normalizeValues(values);
+                if (!lowered.isEmpty()) {
+                    normalized.put(field, lowered);
+                }
+            });
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            documents.put(key, normalized);
+            for (String gram : gramsOf(normalized.values(), 1)) {
+                postings.computeIfAbsent(gram, ignored -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 필드 중 하나라도 검색어를 포함하는 문서 키. fieldNames가 비어 있으면 모든 필드를 본다.
+     */
+    public Set<K> search(String query, Collection<String> fieldNames) {
+        if (query == null || query.isEmpty()) {
+            return Set.of();
+        }
+        String needle = query.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            Collection<K> candidates = needle.length() < gramSize
+                    ? postings.getOrDefault(needle, Set.of())
+                    : intersectPostings(needle);
+
+            Set<K> matches = new LinkedHashSet<>();
+            for (K key : candidates) {
+                Map<String, List<String>> fields = documents.get(key);
+                if (fields != null && containsInFields(fields, fieldNames, needle)) {
+                    matches.add(key);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<K> intersectPostings(String needle) {
+        List<Set<K>> lists = new ArrayList<>();
+        for (String gram : gramsOf(List.of(List.of(needle)), gramSize)) {
+            Set<K> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort((left, right) -> Integer.compare(left.size(), right.size()));
+
+        Set<K> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private boolean containsInFields(Map<String, List<String>> fields, Collection<String> fieldNames, String needle) {
+        Collection<String> targets = fieldNames == null || fieldNames.isEmpty() ? fields.keySet() : fieldNames;
+        for (String field : targets) {
+            List<String> values = fields.get(field);
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                if (value.contains(needle)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void removeInternal(K key) {
+        Map<String, List<String>> previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : gramsOf(previous.values(), 1)) {
+            Set<K> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * minLength~gramSize 길이의 모든 gram. 색인은 1부터, 검색어 교집합은 gramSize 길이만 쓴다.
+     */
+    private Set<String> gramsOf(Collection<List<String>> valueLists, int minLength) {
+        Set<String> grams = new HashSet<>();
+        for (List<String> values : valueLists) {
+            for (String value : values) {
+                for (int i = 0; i < value.length(); i++) {
+                    int maxLength = Math.min(gramSize, value.length() - i);
+                    for (int length = minLength; length <= maxLength; length++) {
+                        grams.add(value.substring(i, i + length));
+                    }
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> normalizeValues(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        List<String> normalized = new ArrayList<>();
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                normalized.add(value.toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+}
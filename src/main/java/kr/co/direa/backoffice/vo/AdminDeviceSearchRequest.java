@@ -7,7 +7,11 @@ public record AdminDeviceSearchRequest(
                 String keyword,
                 String filterValue,
                 String sortField,
-                String sortDirection
+                String sortDirection,
+                String pagination,
+                String cursor,
+                boolean withTotal,
+                String history
 ) {
         public AdminDeviceSearchRequest {
                 page = page > 0 ? page : 1;
@@ -15,6 +19,20 @@ public record AdminDeviceSearchRequest(
                 filterField = hasText(filterField) ? filterField : "categoryName";
                 sortField = hasText(sortField) ? sortField : "categoryName";
                 sortDirection = hasText(sortDirection) ? sortDirection : "asc";
+                pagination = hasText(pagination) ? pagination : "offset";
+                cursor = hasText(cursor) ? cursor : null;
+        }
+
+        public boolean cursorMode() {
+                return "cursor".equalsIgnoreCase(pagination) || cursor != null;
+        }
+
+        public boolean sliceMode() {
+                return "slice".equalsIgnoreCase(pagination);
+        }
+
+        public DeviceHistoryMode historyMode() {
+                return DeviceHistoryMode.from(history);
         }
 
         private static boolean hasText(String value) {
@@ -0,0 +1,14 @@
+package kr.co.direa.backoffice.vo;
+
+/**
+ * 승인자 결재함 조회 조건. 기본은 로그인 사용자 기준이며, 다른 사용자(username)는 관리자만 지정할 수 있다.
+ */
+public record ApprovalInboxRequest(int page,
+                                   int size,
+                                   String username) {
+
+    public ApprovalInboxRequest {
+        page = page > 0 ? page : 1;
+        size = size > 0 ? size : 10;
+    }
+}
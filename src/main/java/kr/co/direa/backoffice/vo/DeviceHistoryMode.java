@@ -0,0 +1,25 @@
+package kr.co.direa.backoffice.vo;
+
+/**
+ * 목록 응답에 장비 이력을 싣는 방식.
+ * - FULL: 전체 이력 목록(기존 동작)
+ * - COUNT: 이력 건수만(historyCount)
+ * - NONE: 이력 생략, 필요 시 /api/device/{id}/history로 따로 조회
+ */
+public enum DeviceHistoryMode {
+    FULL,
+    COUNT,
+    NONE;
+
+    public static DeviceHistoryMode from(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return FULL;
+        }
+        for (DeviceHistoryMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(raw.trim())) {
+                return mode;
+            }
+        }
+        return FULL;
+    }
+}
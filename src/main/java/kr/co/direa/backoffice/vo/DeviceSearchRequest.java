@@ -5,11 +5,16 @@ public record DeviceSearchRequest(
                 int size,
                 String filterField,
                 String keyword,
-                String chipValue
+                String chipValue,
+                String history
 ) {
 
         public DeviceSearchRequest {
                 page = page > 0 ? page : 1;
                 size = size > 0 ? size : 10;
         }
+
+        public DeviceHistoryMode historyMode() {
+                return DeviceHistoryMode.from(history);
+        }
 }
@@ -0,0 +1,15 @@
+package kr.co.direa.backoffice.vo;
+
+/**
+ * 내 결재 목록 조회 조건.
+ * status는 상태 이름 또는 표시 이름이며 쉼표로 여러 개를 줄 수 있다. 비어 있으면 전체 상태.
+ */
+public record MyApprovalSearchRequest(int page,
+                                      int size,
+                                      String status) {
+
+    public MyApprovalSearchRequest {
+        page = page > 0 ? page : 1;
+        size = size > 0 ? size : 10;
+    }
+}
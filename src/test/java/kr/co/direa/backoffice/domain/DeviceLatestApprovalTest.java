@@ -0,0 +1,95 @@
+package kr.co.direa.backoffice.domain;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import kr.co.direa.backoffice.domain.enums.ApprovalStatus;
+import kr.co.direa.backoffice.domain.enums.DeviceApprovalAction;
+import org.junit.jupiter.api.Test;
+
+class DeviceLatestApprovalTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Test
+    void emptySnapshotAcceptsAnyApproval() {
+        assertTrue(DeviceLatestApproval.of("D-001").isReplaceableBy(1L, CREATED));
+        assertTrue(DeviceLatestApproval.of("D-001").isReplaceableBy(1L, null));
+    }
+
+    @Test
+    void sameApprovalIsAlwaysReplaceable() {
+        DeviceLatestApproval latest = snapshot(10L, CREATED);
+
+        assertTrue(latest.isReplaceableBy(10L, CREATED));
+        assertTrue(latest.isReplaceableBy(10L, CREATED.minusDays(1)));
+    }
+
+    @Test
+    void newerCreatedDateWinsRegardlessOfId() {
+        DeviceLatestApproval latest = snapshot(10L, CREATED);
+
+        assertTrue(latest.isReplaceableBy(5L, CREATED.plusSeconds(1)));
+        assertFalse(latest.isReplaceableBy(20L, CREATED.minusSeconds(1)));
+    }
+
+    @Test
+    void equalCreatedDatesFallBackToHigherId() {
+        DeviceLatestApproval latest = snapshot(10L, CREATED);
+
+        assertTrue(latest.isReplaceableBy(11L, CREATED));
+        assertFalse(latest.isReplaceableBy(9L, CREATED));
+    }
+
+    @Test
+    void missingCreatedDateRanksBelowAKnownOne() {
+        assertTrue(snapshot(10L, null).isReplaceableBy(5L, CREATED));
+        assertFalse(snapshot(10L, CREATED).isReplaceableBy(20L, null));
+        assertTrue(snapshot(10L, null).isReplaceableBy(11L, null));
+        assertFalse(snapshot(10L, null).isReplaceableBy(9L, null));
+    }
+
+    @Test
+    void candidateWithoutIdNeverReplacesARecordedApproval() {
+        assertFalse(snapshot(10L, CREATED).isReplaceableBy(null, CREATED.plusDays(1)));
+    }
+
+    @Test
+    void pendingOrInProgressRentalHidesEvenUsableDevices() {
+        assertFalse(DeviceLatestApproval.allowsRental(true, DeviceApprovalAction.RENTAL, ApprovalStatus.PENDING));
+        assertFalse(DeviceLatestApproval.allowsRental(true, DeviceApprovalAction.RENTAL, ApprovalStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void returnWaitingOrRejectedRentalShowsUnusableDevices() {
+        assertTrue(DeviceLatestApproval.allowsRental(false, DeviceApprovalAction.RETURN, ApprovalStatus.PENDING));
+        assertTrue(DeviceLatestApproval.allowsRental(false, DeviceApprovalAction.RETURN, ApprovalStatus.APPROVED));
+        assertTrue(DeviceLatestApproval.allowsRental(false, DeviceApprovalAction.RETURN, null));
+        assertTrue(DeviceLatestApproval.allowsRental(false, DeviceApprovalAction.RENTAL, ApprovalStatus.REJECTED));
+        assertFalse(DeviceLatestApproval.allowsRental(false, DeviceApprovalAction.RETURN, ApprovalStatus.REJECTED));
+    }
+
+    @Test
+    void otherwiseUsableFlagDecides() {
+        assertTrue(DeviceLatestApproval.allowsRental(true, DeviceApprovalAction.RENTAL, ApprovalStatus.APPROVED));
+        assertFalse(DeviceLatestApproval.allowsRental(false, DeviceApprovalAction.RENTAL, ApprovalStatus.APPROVED));
+        assertFalse(DeviceLatestApproval.allowsRental(null, DeviceApprovalAction.DISPOSAL, ApprovalStatus.APPROVED));
+        assertTrue(DeviceLatestApproval.allowsRental(true, (DeviceLatestApproval) null));
+        assertFalse(DeviceLatestApproval.allowsRental(null, (DeviceLatestApproval) null));
+    }
+
+    @Test
+    void snapshotOverloadUsesRecordedActionAndStatus() {
+        DeviceLatestApproval latest = DeviceLatestApproval.of("D-001");
+        latest.apply(DeviceApprovalAction.RENTAL, ApprovalStatus.PENDING, 10L, null, CREATED, "kim", null);
+
+        assertFalse(DeviceLatestApproval.allowsRental(true, latest));
+    }
+
+    private DeviceLatestApproval snapshot(Long requestId, LocalDateTime createdDate) {
+        DeviceLatestApproval latest = DeviceLatestApproval.of("D-001");
+        latest.apply(DeviceApprovalAction.RENTAL, ApprovalStatus.APPROVED, requestId, null, createdDate, "kim", null);
+        return latest;
+    }
+}
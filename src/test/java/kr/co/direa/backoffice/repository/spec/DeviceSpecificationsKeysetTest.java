@@ -0,0 +1,182 @@
+package kr.co.direa.backoffice.repository.spec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import kr.co.direa.backoffice.domain.Devices;
+import org.junit.jupiter.api.Test;
+
+/**
+ * adminKeysetAfter 조건을 메모리 행에 평가해, 커서로 이어 읽은 결과가 MariaDB 정렬
+ * (키 방향 + id 오름차순, NULL은 오름차순 맨 앞/내림차순 맨 뒤)과 같은지 확인한다.
+ */
+class DeviceSpecificationsKeysetTest {
+    private static final int PAGE_SIZE = 2;
+
+    private static final List<Map<String, Object>> ROWS = List.of(
+            row("D-006", "맥북"),
+            row("D-001", null),
+            row("D-004", "갤럭시북"),
+            row("D-002", "맥북"),
+            row("D-007", null),
+            row("D-003", "그램"),
+            row("D-005", "맥북"));
+
+    @Test
+    void ascendingPagesVisitNullKeysFirstAndTiesById() {
+        assertEquals(List.of("D-001", "D-007", "D-004", "D-003", "D-002", "D-005", "D-006"), walk(true));
+    }
+
+    @Test
+    void descendingPagesVisitNullKeysLastAndTiesById() {
+        assertEquals(List.of("D-002", "D-005", "D-006", "D-003", "D-004", "D-001", "D-007"), walk(false));
+    }
+
+    @Test
+    void everyCursorPositionContinuesWithTheRemainingRows() {
+        for (boolean ascending : List.of(true, false)) {
+            List<Map<String, Object>> ordered = mariaDbOrder(ROWS, ascending);
+            for (int i = 0; i < ordered.size(); i++) {
+                Map<String, Object> last = ordered.get(i);
+                List<Map<String, Object>> rest = after(ROWS, ascending, last);
+                assertEquals(ids(ordered.subList(i + 1, ordered.size())), ids(mariaDbOrder(rest, ascending)));
+            }
+        }
+    }
+
+    private List<String> walk(boolean ascending) {
+        List<String> visited = new ArrayList<>();
+        Map<String, Object> last = null;
+        while (true) {
+            List<Map<String, Object>> candidates = last == null ? ROWS : after(ROWS, ascending, last);
+            List<Map<String, Object>> page = mariaDbOrder(candidates, ascending).stream().limit(PAGE_SIZE).toList();
+            if (page.isEmpty()) {
+                return visited;
+            }
+            visited.addAll(ids(page));
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> after(List<Map<String, Object>> rows, boolean ascending, Map<String, Object> last) {
+        Predicate predicate = DeviceSpecifications.adminKeysetAfter("model", ascending,
+                        (Comparable<String>) last.get("model"), (String) last.get("id"))
+                .toPredicate(root(), null, criteriaBuilder());
+        return rows.stream().filter(row -> Boolean.TRUE.equals(evaluate(predicate, row))).toList();
+    }
+
+    private static List<Map<String, Object>> mariaDbOrder(List<Map<String, Object>> rows, boolean ascending) {
+        Comparator<String> keyOrder = ascending
+                ? Comparator.nullsFirst(Comparator.<String>naturalOrder())
+                : Comparator.nullsLast(Comparator.<String>reverseOrder());
+        return rows.stream()
+                .sorted(Comparator.comparing((Map<String, Object> row) -> (String) row.get("model"), keyOrder)
+                        .thenComparing(row -> (String) row.get("id")))
+                .toList();
+    }
+
+    private static List<String> ids(List<Map<String, Object>> rows) {
+        return rows.stream().map(row -> (String) row.get("id")).toList();
+    }
+
+    private static Map<String, Object> row(String id, String model) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("model", model);
+        return row;
+    }
+
+    // 조건식은 값(행 → 결과) 함수로 들고 있다가 평가한다. NULL 비교는 SQL처럼 null(UNKNOWN)이 된다.
+
+    private static Object evaluate(Expression<?> expression, Map<String, Object> row) {
+        return ((Node) Proxy.getInvocationHandler(expression)).value.apply(row);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Root<Devices> root() {
+        return proxy(Root.class, (self, method, args) -> switch (method.getName()) {
+            case "get" -> node(Path.class, row -> row.get((String) args[0]));
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static CriteriaBuilder criteriaBuilder() {
+        return proxy(CriteriaBuilder.class, (self, method, args) -> switch (method.getName()) {
+            case "isNull" -> predicate(row -> evaluate((Expression<?>) args[0], row) == null);
+            case "isNotNull" -> predicate(row -> evaluate((Expression<?>) args[0], row) != null);
+            case "equal" -> predicate(row -> compare(args, row, result -> result == 0));
+            case "greaterThan" -> predicate(row -> compare(args, row, result -> result > 0));
+            case "lessThan" -> predicate(row -> compare(args, row, result -> result < 0));
+            case "and" -> predicate(row -> combine(args, row, true));
+            case "or" -> predicate(row -> combine(args, row, false));
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Boolean compare(Object[] args, Map<String, Object> row, Function<Integer, Boolean> test) {
+        Object left = evaluate((Expression<?>) args[0], row);
+        Object right = args[1] instanceof Expression<?> expression ? evaluate(expression, row) : args[1];
+        if (left == null || right == null) {
+            return null;
+        }
+        return test.apply(((Comparable) left).compareTo(right));
+    }
+
+    private static Boolean combine(Object[] args, Map<String, Object> row, boolean conjunction) {
+        List<Expression<?>> operands = new ArrayList<>();
+        for (Object arg : args) {
+            if (arg instanceof Object[] array) {
+                for (Object element : array) {
+                    operands.add((Expression<?>) element);
+                }
+            } else {
+                operands.add((Expression<?>) arg);
+            }
+        }
+        boolean unknown = false;
+        for (Expression<?> operand : operands) {
+            Boolean value = (Boolean) evaluate(operand, row);
+            if (value == null) {
+                unknown = true;
+            } else if (value != conjunction) {
+                return value;
+            }
+        }
+        return unknown ? null : conjunction;
+    }
+
+    private static Predicate predicate(Function<Map<String, Object>, Object> value) {
+        return node(Predicate.class, value);
+    }
+
+    private static <T> T node(Class<T> type, Function<Map<String, Object>, Object> value) {
+        return proxy(type, new Node(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(DeviceSpecificationsKeysetTest.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private record Node(Function<Map<String, Object>, Object> value) implements InvocationHandler {
+        @Override
+        public Object invoke(Object self, java.lang.reflect.Method method, Object[] args) {
+            throw new UnsupportedOperationException(method.getName());
+        }
+    }
+}
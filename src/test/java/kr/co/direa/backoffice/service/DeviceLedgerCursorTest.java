@@ -0,0 +1,72 @@
+package kr.co.direa.backoffice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import kr.co.direa.backoffice.exception.CustomException;
+import kr.co.direa.backoffice.exception.code.CustomErrorCode;
+import org.junit.jupiter.api.Test;
+
+class DeviceLedgerCursorTest {
+
+    @Test
+    void roundTripsSortValueAndLastId() {
+        DeviceLedgerCursor cursor = new DeviceLedgerCursor("model", false, true, 42, "갤럭시.북 ~", "D-001");
+
+        assertEquals(cursor, DeviceLedgerCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void roundTripsNullSortValueSeparatelyFromEmpty() {
+        DeviceLedgerCursor nullKey = new DeviceLedgerCursor("model", true, false, 0, null, "D-002");
+        DeviceLedgerCursor emptyKey = new DeviceLedgerCursor("model", true, false, 0, "", "D-002");
+
+        assertNull(DeviceLedgerCursor.decode(nullKey.encode()).sortValue());
+        assertEquals("", DeviceLedgerCursor.decode(emptyKey.encode()).sortValue());
+    }
+
+    @Test
+    void rejectsOtherVersions() {
+        String token = new DeviceLedgerCursor("model", true, false, 0, "a", "D-001").encode();
+        String raw = decode(token).replaceFirst("^v1\\.", "v2.");
+
+        assertInvalid(encode(raw));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("not a cursor");
+        assertInvalid(encode("v1.bW9kZWw.a.0"));
+        assertInvalid(encode("v1.bW9kZWw.a.0.x.~.RC0wMDE"));
+    }
+
+    @Test
+    void matchesOnlyTheSameSortAndFilters() {
+        DeviceLedgerCursor cursor = new DeviceLedgerCursor("model", true, false, 42, "a", "D-001");
+
+        assertTrue(cursor.matches("model", true, false, 42));
+        assertFalse(cursor.matches("model", true, false, 43));
+        assertFalse(cursor.matches("model", false, false, 42));
+        assertFalse(cursor.matches("model", true, true, 42));
+        assertFalse(cursor.matches("company", true, false, 42));
+    }
+
+    private void assertInvalid(String token) {
+        CustomException ex = assertThrows(CustomException.class, () -> DeviceLedgerCursor.decode(token));
+        assertEquals(CustomErrorCode.DEVICE_PAGE_CURSOR_INVALID, ex.getErrorCode());
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decode(String token) {
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,153 @@
+package kr.co.direa.backoffice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+    private static final int WAITERS = 4;
+
+    @Test
+    void concurrentCallersShareOneLoaderInvocation() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            invocations.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "value";
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("key", loader)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Thread> waiters = startWaiters(executor, results, () -> singleFlight.execute("key", loader));
+            awaitParked(waiters);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void loaderFailureReachesAllWaiters() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        IllegalStateException failure = new IllegalStateException("keycloak down");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("key", loader)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Thread> waiters = startWaiters(executor, results, () -> singleFlight.execute("key", loader));
+            awaitParked(waiters);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                Throwable thrown = assertThrows(ExecutionException.class,
+                        () -> result.get(5, TimeUnit.SECONDS)).getCause();
+                // 조회한 호출자는 원래 예외를, 기다린 호출자는 그 예외를 감싼 CompletionException을 받는다.
+                Throwable cause = thrown instanceof CompletionException ? thrown.getCause() : thrown;
+                assertSame(failure, cause);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keyIsClearedAfterCompletionAndFailure() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger invocations = new AtomicInteger();
+
+        assertEquals("first", singleFlight.execute("key", () -> {
+            invocations.incrementAndGet();
+            return "first";
+        }));
+        assertEquals("second", singleFlight.execute("key", () -> {
+            invocations.incrementAndGet();
+            return "second";
+        }));
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+            invocations.incrementAndGet();
+            throw new IllegalStateException("failed");
+        }));
+        assertEquals("third", singleFlight.execute("key", () -> {
+            invocations.incrementAndGet();
+            return "third";
+        }));
+        assertEquals(4, invocations.get());
+    }
+
+    private static List<Thread> startWaiters(ExecutorService executor,
+                                             List<Future<String>> results,
+                                             Supplier<String> call) throws InterruptedException {
+        List<Thread> waiters = new ArrayList<>();
+        CountDownLatch registered = new CountDownLatch(WAITERS);
+        for (int i = 0; i < WAITERS; i++) {
+            results.add(executor.submit(() -> {
+                synchronized (waiters) {
+                    waiters.add(Thread.currentThread());
+                }
+                registered.countDown();
+                return call.get();
+            }));
+        }
+        assertTrue(registered.await(5, TimeUnit.SECONDS));
+        synchronized (waiters) {
+            return List.copyOf(waiters);
+        }
+    }
+
+    /**
+     * 기다리는 호출자가 모두 진행 중인 조회에 붙어 멈출 때까지 기다린다.
+     */
+    private static void awaitParked(List<Thread> waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread waiter : waiters) {
+            while (waiter.getState() != Thread.State.WAITING) {
+                assertTrue(System.nanoTime() < deadline, "waiter did not block on the in-flight load");
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
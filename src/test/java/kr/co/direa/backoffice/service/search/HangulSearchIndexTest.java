@@ -0,0 +1,54 @@
+package kr.co.direa.backoffice.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class HangulSearchIndexTest {
+
+    @Test
+    void findsByChoseongAndPartiallyTypedSyllables() {
+        HangulSearchIndex<Long> index = newIndex();
+
+        assertEquals(Set.of(1L), index.search("ㄴㅌㅂ", List.of()));
+        assertEquals(Set.of(1L), index.search("노트ㅂ", List.of()));
+        assertEquals(Set.of(1L, 2L), index.search("ㄴ", List.of("model")));
+        assertEquals(Set.of(2L), index.search("ㄱㄷ", List.of("user")));
+    }
+
+    @Test
+    void completedSyllableQueriesMatchTextOnly() {
+        HangulSearchIndex<Long> index = newIndex();
+
+        assertEquals(Set.of(1L), index.search("노트북", List.of()));
+        // "노" 의 자모(ㄴㅗ)는 "노트북"에도 있지만 완성형 검색어는 원문 LIKE 결과만 돌려준다.
+        assertEquals(Set.of(), index.search("놋", List.of()));
+        assertEquals(Set.of(3L), index.search("gram", List.of()));
+    }
+
+    @Test
+    void updateAndRemoveApplyToAllIndexes() {
+        HangulSearchIndex<Long> index = newIndex();
+
+        index.put(1L, Map.of("model", List.of("Gram Pro")));
+        assertEquals(Set.of(), index.search("ㄴㅌㅂ", List.of()));
+        assertEquals(Set.of(), index.search("노트ㅂ", List.of()));
+        assertEquals(Set.of(1L, 3L), index.search("gram", List.of()));
+
+        index.remove(2L);
+        assertEquals(Set.of(), index.search("ㄱㄷ", List.of()));
+        assertEquals(2, index.size());
+    }
+
+    private static HangulSearchIndex<Long> newIndex() {
+        HangulSearchIndex<Long> index = new HangulSearchIndex<>();
+        index.put(1L, Map.of("model", List.of("노트북 A"), "user", List.of("김철수")));
+        index.put(2L, Map.of("model", List.of("모니터"), "user", List.of("홍길동")));
+        index.put(3L, Map.of("model", List.of("LG Gram 16")));
+        return index;
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.direa.backoffice.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HangulTextTest {
+
+    @Test
+    void toChoseongKeepsNonHangulCharacters() {
+        assertEquals("ㄴㅌㅂ", HangulText.toChoseong("노트북"));
+        assertEquals("LG ㄴㅌㅂ-01", HangulText.toChoseong("LG 노트북-01"));
+        assertNull(HangulText.toChoseong(null));
+    }
+
+    @Test
+    void toJamoSplitsCompoundVowelsAndFinals() {
+        assertEquals("ㄴㅗㅌㅡㅂㅜㄱ", HangulText.toJamo("노트북"));
+        // 겹모음(ㅘ)과 겹받침(ㄺ)은 기본 자모로 나눈다.
+        assertEquals("ㄱㅗㅏ", HangulText.toJamo("과"));
+        assertEquals("ㄷㅏㄹㄱ", HangulText.toJamo("닭"));
+        assertEquals("ㄹㄱ", HangulText.toJamo("ㄺ"));
+    }
+
+    @Test
+    void typingPrefixMatchesJamoOfCompletedWord() {
+        String typed = HangulText.toJamo("노트ㅂ");
+        assertTrue(HangulText.toJamo("노트북").startsWith(typed));
+    }
+
+    @Test
+    void detectsQueryKinds() {
+        assertTrue(HangulText.isChoseongQuery("ㄴㅌㅂ"));
+        assertFalse(HangulText.isChoseongQuery("노트ㅂ"));
+        assertTrue(HangulText.containsCompatibilityJamo("노트ㅂ"));
+        assertFalse(HangulText.containsCompatibilityJamo("노트북"));
+        assertTrue(HangulText.containsHangul("abc노트"));
+        assertFalse(HangulText.containsHangul("abc"));
+    }
+}
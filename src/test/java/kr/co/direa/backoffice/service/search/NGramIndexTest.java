@@ -0,0 +1,98 @@
+package kr.co.direa.backoffice.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class NGramIndexTest {
+
+    private static final Map<String, Map<String, List<String>>> DOCUMENTS = new LinkedHashMap<>();
+
+    static {
+        DOCUMENTS.put("D-001", Map.of("id", List.of("D-001"), "model", List.of("LG Gram 16"),
+                "user", List.of("홍길동")));
+        DOCUMENTS.put("D-002", Map.of("id", List.of("D-002"), "model", List.of("MacBook Pro"),
+                "user", List.of("김철수", "홍길순")));
+        DOCUMENTS.put("D-003", Map.of("id", List.of("D-003"), "model", List.of("노트북 A"),
+                "user", List.of("ab")));
+        DOCUMENTS.put("X-9", Map.of("id", List.of("X-9"), "model", List.of("x")));
+    }
+
+    @Test
+    void matchesLikeForEverySubstringOfIndexedValues() {
+        NGramIndex<String> index = newIndex();
+        Set<String> queries = new TreeSet<>(List.of("zz", "q", "gram 17", "홍길", "-0", "B", "OK"));
+        DOCUMENTS.values().forEach(fields -> fields.values().forEach(values -> values.forEach(value -> {
+            for (int from = 0; from < value.length(); from++) {
+                for (int to = from + 1; to <= value.length(); to++) {
+                    queries.add(value.substring(from, to));
+                }
+            }
+        })));
+
+        for (String query : queries) {
+            assertEquals(like(query, List.of()), index.search(query, List.of()), "query=" + query);
+            assertEquals(like(query, List.of("model")), index.search(query, List.of("model")), "query=" + query);
+        }
+    }
+
+    @Test
+    void shortQueriesUseShortGramPostings() {
+        NGramIndex<String> index = newIndex();
+
+        assertEquals(Set.of("D-003"), index.search("ab", List.of("user")));
+        assertEquals(Set.of("X-9"), index.search("x", List.of("model")));
+        assertEquals(Set.of("D-002"), index.search("b", List.of("model")));
+        assertTrue(index.search("", List.of()).isEmpty());
+        assertTrue(index.search(null, List.of()).isEmpty());
+    }
+
+    @Test
+    void putReplacesPreviousValuesAndRemoveDropsPostings() {
+        NGramIndex<String> index = newIndex();
+
+        index.put("D-001", Map.of("model", List.of("ThinkPad")));
+        assertEquals(Set.of(), index.search("gram", List.of()));
+        assertEquals(Set.of(), index.search("길동", List.of()));
+        assertEquals(Set.of("D-001"), index.search("think", List.of()));
+        assertEquals(Set.of("D-001"), index.search("th", List.of()));
+
+        index.remove("D-001");
+        assertEquals(Set.of(), index.search("think", List.of()));
+        assertEquals(Set.of(), index.search("th", List.of()));
+        assertEquals(DOCUMENTS.size() - 1, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(Set.of(), index.search("D-", List.of()));
+    }
+
+    private static NGramIndex<String> newIndex() {
+        NGramIndex<String> index = new NGramIndex<>();
+        DOCUMENTS.forEach(index::put);
+        return index;
+    }
+
+    /**
+     * LOWER(field) LIKE '%query%' 기준 결과.
+     */
+    private static Set<String> like(String query, List<String> fieldNames) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        return DOCUMENTS.entrySet().stream()
+                .filter(entry -> entry.getValue().entrySet().stream()
+                        .filter(field -> fieldNames.isEmpty() || fieldNames.contains(field.getKey()))
+                        .flatMap(field -> field.getValue().stream())
+                        .anyMatch(value -> value.toLowerCase(Locale.ROOT).contains(needle)))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+}